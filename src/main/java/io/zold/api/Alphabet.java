@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+/**
+ * Set of ASCII characters, checked through a lookup table.
+ *
+ * <p>The set is described the way a regular expression character class
+ * is, e.g. {@code A-Fa-f0-9}, but checking a text against it needs no
+ * matcher and allocates nothing.
+ *
+ * @since 1.0
+ */
+final class Alphabet {
+
+    /**
+     * Size of ASCII.
+     */
+    private static final int ASCII = 128;
+
+    /**
+     * Lookup table, indexed by character.
+     */
+    private final boolean[] table;
+
+    /**
+     * Ctor.
+     * @param chars Characters and ranges of characters, like {@code a-z+/}
+     */
+    Alphabet(final String chars) {
+        this(Alphabet.table(chars));
+    }
+
+    /**
+     * Ctor.
+     * @param table Lookup table
+     */
+    private Alphabet(final boolean[] table) {
+        this.table = table;
+    }
+
+    /**
+     * Find where the run of characters from this alphabet ends.
+     * @param text The text
+     * @param from Position to start from
+     * @return Position of the first character not in this alphabet, or
+     *  the length of the text
+     */
+    int span(final CharSequence text, final int from) {
+        final int length = text.length();
+        int pos = from;
+        while (pos < length) {
+            final char chr = text.charAt(pos);
+            if (chr >= Alphabet.ASCII || !this.table[chr]) {
+                break;
+            }
+            pos += 1;
+        }
+        return pos;
+    }
+
+    /**
+     * Check that all characters of the text are in this alphabet.
+     * @param text The text
+     * @param length Length the text must have
+     * @return TRUE if the text has this length and only these characters
+     */
+    boolean covers(final CharSequence text, final int length) {
+        return text.length() == length && this.span(text, 0) == length;
+    }
+
+    /**
+     * Build the lookup table.
+     * @param chars Characters and ranges of characters
+     * @return The table
+     */
+    private static boolean[] table(final String chars) {
+        final boolean[] table = new boolean[Alphabet.ASCII];
+        int pos = 0;
+        while (pos < chars.length()) {
+            final boolean range = pos + 2 < chars.length()
+                && chars.charAt(pos + 1) == '-';
+            char last = chars.charAt(pos);
+            if (range) {
+                last = chars.charAt(pos + 2);
+            }
+            for (char chr = chars.charAt(pos); chr <= last; ++chr) {
+                table[chr] = true;
+            }
+            if (range) {
+                pos += 3;
+            } else {
+                pos += 1;
+            }
+        }
+        return table;
+    }
+}
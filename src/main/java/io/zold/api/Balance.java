@@ -0,0 +1,61 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+
+/**
+ * Balance of a ledger, in zents.
+ *
+ * <p>Transactions are summed in a single pass, in the order of the
+ * ledger. As in the Zold whitepaper, a negative transaction that would
+ * make the balance negative is ignored.
+ *
+ * @since 1.0
+ */
+final class Balance {
+
+    /**
+     * The ledger.
+     */
+    private final Iterable<Transaction> ledger;
+
+    /**
+     * Ctor.
+     * @param ledger The ledger
+     */
+    Balance(final Iterable<Transaction> ledger) {
+        this.ledger = ledger;
+    }
+
+    /**
+     * Sum the ledger.
+     * @return Balance
+     * @throws IOException If a transaction can't be read
+     */
+    long value() throws IOException {
+        long balance = 0L;
+        for (final Transaction txn : this.ledger) {
+            balance = Balance.next(balance, txn.amount());
+        }
+        return balance;
+    }
+
+    /**
+     * Balance after one more transaction.
+     * @param balance Balance before it
+     * @param amount Amount of the transaction
+     * @return Balance after it
+     */
+    static long next(final long balance, final long amount) {
+        final long next;
+        if (amount < 0L && balance + amount < 0L) {
+            next = balance;
+        } else {
+            next = balance + amount;
+        }
+        return next;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.cactoos.scalar.IoChecked;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Wallet file in the binary format, memory mapped.
+ *
+ * <p>The file starts with {@link #MAGIC} and the four lines of the text
+ * header, each after 2 bytes of length. Then go the records of the
+ * transactions, see {@link BinaryTransaction}, and the index: the offset
+ * of every record, 4 bytes each. The file ends with the number of
+ * records, the offset of the index and {@link #MAGIC} again, so the
+ * index is found from the end of the file and any transaction is read
+ * without reading the others.
+ *
+ * @since 1.0
+ */
+final class BinaryLedger implements Iterable<Transaction> {
+
+    /**
+     * First and last bytes of the file.
+     */
+    static final int MAGIC = 0x5a574231;
+
+    /**
+     * Bytes at the end of the file: count, index offset and magic.
+     */
+    static final int TRAILER = 12;
+
+    /**
+     * Lines in the header.
+     */
+    static final int HEADER = 4;
+
+    /**
+     * The file, mapped once.
+     */
+    private final IoChecked<ByteBuffer> buffer;
+
+    /**
+     * Ctor.
+     * @param path The file
+     */
+    BinaryLedger(final Path path) {
+        this.buffer = new IoChecked<>(
+            new Sticky<>(() -> BinaryLedger.map(path))
+        );
+    }
+
+    /**
+     * Lines of the text header.
+     * @return Network, protocol, id and key
+     * @throws IOException If the file is broken
+     */
+    List<String> header() throws IOException {
+        final ByteBuffer buf = this.buffer.value();
+        final List<String> lines = new ArrayList<>(BinaryLedger.HEADER);
+        // @checkstyle MagicNumberCheck (1 line)
+        int pos = 4;
+        for (int idx = 0; idx < BinaryLedger.HEADER; ++idx) {
+            final byte[] line = new byte[buf.getShort(pos) & 0xffff];
+            for (int chr = 0; chr < line.length; ++chr) {
+                line[chr] = buf.get(pos + 2 + chr);
+            }
+            lines.add(new String(line, StandardCharsets.UTF_8));
+            pos += 2 + line.length;
+        }
+        return lines;
+    }
+
+    /**
+     * How many transactions there are.
+     * @return Count
+     * @throws IOException If the file is broken
+     */
+    int size() throws IOException {
+        final ByteBuffer buf = this.buffer.value();
+        return buf.getInt(buf.limit() - BinaryLedger.TRAILER);
+    }
+
+    /**
+     * Transaction at a position.
+     * @param idx Position, from zero
+     * @return The transaction
+     * @throws IOException If the file is broken
+     */
+    Transaction get(final int idx) throws IOException {
+        final ByteBuffer buf = this.buffer.value();
+        // @checkstyle MagicNumberCheck (1 line)
+        final int index = buf.getInt(buf.limit() - 8);
+        return new BinaryTransaction(buf, buf.getInt(index + idx * 4));
+    }
+
+    @Override
+    public Iterator<Transaction> iterator() {
+        try {
+            return new BinaryLedger.Reading(this, this.size());
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Map the file and check its format.
+     * @param path The file
+     * @return The buffer
+     * @throws IOException If it's not a binary wallet
+     */
+    private static ByteBuffer map(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.READ
+        )) {
+            final long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "File %s is too big to be mapped: %d bytes",
+                            path, size
+                        )
+                    ).asString()
+                );
+            }
+            final ByteBuffer buf = channel.map(
+                FileChannel.MapMode.READ_ONLY, 0L, size
+            );
+            // @checkstyle MagicNumberCheck (1 line)
+            if (size < BinaryLedger.TRAILER + 4
+                || buf.getInt(0) != BinaryLedger.MAGIC
+                || buf.getInt((int) size - 4) != BinaryLedger.MAGIC) {
+                throw new IOException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "File %s is not a binary wallet", path
+                        )
+                    ).asString()
+                );
+            }
+            return buf;
+        }
+    }
+
+    /**
+     * Iterator over the transactions, by position.
+     * @since 1.0
+     */
+    private static final class Reading implements Iterator<Transaction> {
+
+        /**
+         * The ledger.
+         */
+        private final BinaryLedger ledger;
+
+        /**
+         * How many transactions there are.
+         */
+        private final int size;
+
+        /**
+         * Position of the next transaction.
+         */
+        private int next;
+
+        /**
+         * Ctor.
+         * @param ledger The ledger
+         * @param size How many transactions there are
+         */
+        Reading(final BinaryLedger ledger, final int size) {
+            this.ledger = ledger;
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < this.size;
+        }
+
+        @Override
+        public Transaction next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("No more transactions");
+            }
+            try {
+                final Transaction txn = this.ledger.get(this.next);
+                this.next += 1;
+                return txn;
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
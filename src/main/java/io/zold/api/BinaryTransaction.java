@@ -0,0 +1,210 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Transaction stored in the binary format of {@link BinaryLedger}.
+ *
+ * <p>A record starts with its fixed-width fields, so the id, the time,
+ * the amount and the beneficiary are read straight from their offsets,
+ * nothing is parsed. They are followed by the prefix, the details and
+ * the raw signature, each after its length:
+ * <pre>
+ * +0  id, 2 bytes       +18 amount, 8 bytes
+ * +2  epoch second, 8   +26 bnf, 8 bytes
+ * +10 nanosecond, 4     +34 prefix length, 1 byte, and prefix
+ * +14 zone offset, 4    then details and signature, each after 2 bytes
+ *                       of length
+ * </pre>
+ *
+ * @since 1.0
+ */
+final class BinaryTransaction implements Transaction {
+
+    /**
+     * Where the prefix starts.
+     */
+    private static final int PREFIX = 34;
+
+    /**
+     * The buffer with records.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Where the record starts.
+     */
+    private final int start;
+
+    /**
+     * Ctor.
+     * @param buffer The buffer with records, never moved
+     * @param start Where the record starts
+     */
+    BinaryTransaction(final ByteBuffer buffer, final int start) {
+        this.buffer = buffer;
+        this.start = start;
+    }
+
+    @Override
+    public int id() {
+        return this.buffer.getShort(this.start) & 0xffff;
+    }
+
+    @Override
+    public ZonedDateTime time() {
+        // @checkstyle MagicNumberCheck (6 lines)
+        return ZonedDateTime.ofInstant(
+            Instant.ofEpochSecond(
+                this.buffer.getLong(this.start + 2),
+                this.buffer.getInt(this.start + 10)
+            ),
+            ZoneOffset.ofTotalSeconds(this.buffer.getInt(this.start + 14))
+        );
+    }
+
+    @Override
+    public long amount() {
+        // @checkstyle MagicNumberCheck (1 line)
+        return this.buffer.getLong(this.start + 18);
+    }
+
+    @Override
+    public String prefix() {
+        final int pos = this.start + BinaryTransaction.PREFIX;
+        return this.text(pos + 1, this.buffer.get(pos) & 0xff);
+    }
+
+    @Override
+    public String bnf() {
+        // @checkstyle MagicNumberCheck (1 line)
+        return String.format("%016x", this.beneficiary());
+    }
+
+    @Override
+    public String details() {
+        final int pos = this.details(this.start);
+        return this.text(pos + 2, this.buffer.getShort(pos) & 0xffff);
+    }
+
+    @Override
+    public String signature() {
+        final int dtls = this.details(this.start);
+        final int pos = dtls + 2 + (this.buffer.getShort(dtls) & 0xffff);
+        final byte[] sign = new byte[this.buffer.getShort(pos) & 0xffff];
+        for (int idx = 0; idx < sign.length; ++idx) {
+            sign[idx] = this.buffer.get(pos + 2 + idx);
+        }
+        return Base64.getEncoder().encodeToString(sign);
+    }
+
+    @Override
+    public String toString() {
+        return CpTransaction.line(
+            this.id(), this.time(), this.amount(), this.prefix(),
+            this.beneficiary(), this.details(), this.signature()
+        );
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj || obj instanceof BinaryTransaction
+            && this.toString().equals(obj.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.toString().hashCode();
+    }
+
+    /**
+     * Record of a transaction, which makes the same line again.
+     * @param txn The transaction
+     * @return The record
+     * @throws IOException If the transaction can't be stored without loss
+     */
+    static byte[] record(final Transaction txn) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(
+            // @checkstyle MagicNumberCheck (1 line)
+            640
+        );
+        final DataOutputStream out = new DataOutputStream(bytes);
+        final ZonedDateTime time = txn.time();
+        final byte[] prefix = txn.prefix().getBytes(StandardCharsets.UTF_8);
+        final byte[] details = txn.details().getBytes(StandardCharsets.UTF_8);
+        final byte[] sign = Base64.getMimeDecoder().decode(txn.signature());
+        out.writeShort(txn.id());
+        out.writeLong(time.toEpochSecond());
+        out.writeInt(time.getNano());
+        out.writeInt(time.getOffset().getTotalSeconds());
+        out.writeLong(txn.amount());
+        // @checkstyle MagicNumberCheck (1 line)
+        out.writeLong(Long.parseUnsignedLong(txn.bnf(), 16));
+        out.writeByte(prefix.length);
+        out.write(prefix);
+        out.writeShort(details.length);
+        out.write(details);
+        out.writeShort(sign.length);
+        out.write(sign);
+        final byte[] record = bytes.toByteArray();
+        if (!new BinaryTransaction(ByteBuffer.wrap(record), 0).toString()
+            .equals(txn.toString())) {
+            throw new IOException(
+                new UncheckedText(
+                    new FormattedText(
+                        "Transaction '%s' can't be stored in binary without loss",
+                        txn
+                    )
+                ).asString()
+            );
+        }
+        return record;
+    }
+
+    /**
+     * Wallet ID of the beneficiary.
+     * @return Id
+     */
+    private long beneficiary() {
+        // @checkstyle MagicNumberCheck (1 line)
+        return this.buffer.getLong(this.start + 26);
+    }
+
+    /**
+     * Where the length of the details is.
+     * @param record Where the record starts
+     * @return Offset
+     */
+    private int details(final int record) {
+        final int pos = record + BinaryTransaction.PREFIX;
+        return pos + 1 + (this.buffer.get(pos) & 0xff);
+    }
+
+    /**
+     * Text stored at an offset.
+     * @param pos Where it starts
+     * @param length How many bytes
+     * @return The text
+     */
+    private String text(final int pos, final int length) {
+        final byte[] bytes = new byte[length];
+        for (int idx = 0; idx < length; ++idx) {
+            bytes[idx] = this.buffer.get(pos + idx);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Push of a wallet to many remotes at once.
+ *
+ * <p>Every remote is pushed to in its own task, so a slow node holds up
+ * nobody but itself. The result is a future of one {@link Delivery} per
+ * remote that answered, telling whether it accepted the wallet and how
+ * long it took. Remotes that don't answer in time, one minute unless
+ * told otherwise, are given up on: the future is done without them.
+ *
+ * @since 1.0
+ */
+public final class Broadcast {
+
+    /**
+     * Threads pushing wallets, shared by all broadcasts.
+     */
+    private static final ExecutorService POOL = Executors.newCachedThreadPool(
+        task -> {
+            final Thread thread = new Thread(task, "zold-broadcast");
+            thread.setDaemon(true);
+            return thread;
+        }
+    );
+
+    /**
+     * Timer of pushes, shared by all broadcasts.
+     */
+    private static final ScheduledExecutorService TIMER = Broadcast.timer();
+
+    /**
+     * Remote nodes.
+     */
+    private final Iterable<Remote> remotes;
+
+    /**
+     * Where pushes run.
+     */
+    private final Executor executor;
+
+    /**
+     * How long to wait for the remotes.
+     */
+    private final Duration timeout;
+
+    /**
+     * Ctor.
+     * @param remotes Remote nodes
+     */
+    public Broadcast(final Iterable<Remote> remotes) {
+        this(remotes, Broadcast.POOL);
+    }
+
+    /**
+     * Ctor.
+     * @param remotes Remote nodes
+     * @param executor Where pushes run
+     */
+    public Broadcast(final Iterable<Remote> remotes, final Executor executor) {
+        this(remotes, executor, Duration.ofMinutes(1L));
+    }
+
+    /**
+     * Ctor.
+     * @param remotes Remote nodes
+     * @param executor Where pushes run
+     * @param timeout How long to wait for the remotes
+     */
+    public Broadcast(final Iterable<Remote> remotes, final Executor executor,
+        final Duration timeout) {
+        this.remotes = remotes;
+        this.executor = executor;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Push the wallet to all remotes.
+     * @param wallet The wallet
+     * @return Future of deliveries, done when every remote has answered
+     */
+    public CompletableFuture<List<Delivery>> push(final Wallet wallet) {
+        return this.push(wallet, 0);
+    }
+
+    /**
+     * Push the wallet to all remotes, until enough of them accept it.
+     *
+     * <p>The future is done as soon as {@code quorum} remotes have accepted
+     * the wallet, with the deliveries known by then; the rest of the pushes
+     * go on in the background. If every remote has answered, or the time is
+     * out, and the quorum is not reached, the future fails. A quorum of zero
+     * waits for every remote, or for the time out, and never fails.
+     *
+     * @param wallet The wallet
+     * @param quorum How many remotes must accept the wallet
+     * @return Future of deliveries
+     */
+    public CompletableFuture<List<Delivery>> push(final Wallet wallet,
+        final int quorum) {
+        final List<Remote> nodes = new ListOf<>(this.remotes);
+        final Broadcast.Tally tally = new Broadcast.Tally(nodes.size(), quorum);
+        for (final Remote remote : nodes) {
+            try {
+                CompletableFuture.runAsync(
+                    () -> tally.add(Broadcast.deliver(remote, wallet)),
+                    this.executor
+                );
+            } catch (final RejectedExecutionException ex) {
+                tally.add(new Delivery(remote, Duration.ZERO, ex));
+            }
+        }
+        final ScheduledFuture<?> timer = Broadcast.TIMER.schedule(
+            () -> tally.expire(this.timeout),
+            this.timeout.toMillis(), TimeUnit.MILLISECONDS
+        );
+        final CompletableFuture<List<Delivery>> result = tally.result();
+        result.whenComplete((deliveries, error) -> timer.cancel(false));
+        return result;
+    }
+
+    /**
+     * Push the wallet to the remote.
+     * @param remote The remote
+     * @param wallet The wallet
+     * @return Delivery
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static Delivery deliver(final Remote remote, final Wallet wallet) {
+        final long start = System.nanoTime();
+        Delivery delivery;
+        try {
+            remote.push(wallet);
+            delivery = new Delivery(
+                remote, Duration.ofNanos(System.nanoTime() - start)
+            );
+        // @checkstyle IllegalCatchCheck (1 line)
+        } catch (final RuntimeException | Error ex) {
+            delivery = new Delivery(
+                remote, Duration.ofNanos(System.nanoTime() - start), ex
+            );
+        }
+        return delivery;
+    }
+
+    /**
+     * Timer of pushes, with a daemon thread.
+     * @return Timer
+     */
+    private static ScheduledExecutorService timer() {
+        final ScheduledThreadPoolExecutor timer =
+            new ScheduledThreadPoolExecutor(
+                1,
+                task -> {
+                    final Thread thread = new Thread(
+                        task, "zold-broadcast-timer"
+                    );
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Outcome of a push to one remote.
+     * @since 1.0
+     */
+    public static final class Delivery {
+
+        /**
+         * The remote.
+         */
+        private final Remote rmt;
+
+        /**
+         * How long the push took.
+         */
+        private final Duration time;
+
+        /**
+         * Why the push failed, if it did.
+         */
+        private final Optional<Throwable> failure;
+
+        /**
+         * Ctor.
+         * @param remote The remote, which accepted the wallet
+         * @param latency How long the push took
+         */
+        Delivery(final Remote remote, final Duration latency) {
+            this(remote, latency, Optional.empty());
+        }
+
+        /**
+         * Ctor.
+         * @param remote The remote, which failed to accept the wallet
+         * @param latency How long the push took
+         * @param error Why the push failed
+         */
+        Delivery(final Remote remote, final Duration latency,
+            final Throwable error) {
+            this(remote, latency, Optional.of(error));
+        }
+
+        /**
+         * Ctor.
+         * @param remote The remote
+         * @param latency How long the push took
+         * @param error Why the push failed, if it did
+         */
+        private Delivery(final Remote remote, final Duration latency,
+            final Optional<Throwable> error) {
+            this.rmt = remote;
+            this.time = latency;
+            this.failure = error;
+        }
+
+        /**
+         * The remote.
+         * @return The remote
+         */
+        public Remote remote() {
+            return this.rmt;
+        }
+
+        /**
+         * Whether the remote accepted the wallet.
+         * @return TRUE if it did
+         */
+        public boolean success() {
+            return !this.failure.isPresent();
+        }
+
+        /**
+         * Why the push failed.
+         * @return The error, empty if the remote accepted the wallet
+         */
+        public Optional<Throwable> error() {
+            return this.failure;
+        }
+
+        /**
+         * How long the push took.
+         * @return Latency
+         */
+        public Duration latency() {
+            return this.time;
+        }
+    }
+
+    /**
+     * Deliveries collected from concurrent pushes.
+     * @since 1.0
+     */
+    private static final class Tally {
+
+        /**
+         * Deliveries so far.
+         */
+        private final List<Delivery> deliveries;
+
+        /**
+         * The future result.
+         */
+        private final CompletableFuture<List<Delivery>> future;
+
+        /**
+         * How many remotes are pushed to.
+         */
+        private final int total;
+
+        /**
+         * How many remotes must accept the wallet.
+         */
+        private final int quorum;
+
+        /**
+         * How many remotes accepted the wallet.
+         */
+        private int acks;
+
+        /**
+         * Ctor.
+         * @param total How many remotes are pushed to
+         * @param quorum How many remotes must accept the wallet
+         */
+        Tally(final int total, final int quorum) {
+            this.deliveries = new ArrayList<>(total);
+            this.future = new CompletableFuture<>();
+            this.total = total;
+            this.quorum = quorum;
+        }
+
+        /**
+         * The future result.
+         * @return Future of deliveries
+         */
+        synchronized CompletableFuture<List<Delivery>> result() {
+            if (this.total == 0) {
+                this.finish();
+            }
+            return this.future;
+        }
+
+        /**
+         * Count a delivery.
+         * @param delivery Delivery
+         */
+        synchronized void add(final Delivery delivery) {
+            this.deliveries.add(delivery);
+            if (delivery.success()) {
+                this.acks += 1;
+                if (this.acks == this.quorum) {
+                    this.future.complete(this.snapshot());
+                }
+            }
+            if (this.deliveries.size() == this.total) {
+                this.finish();
+            }
+        }
+
+        /**
+         * Stop waiting for the remotes that haven't answered yet.
+         * @param timeout How long they were waited for
+         */
+        synchronized void expire(final Duration timeout) {
+            if (!this.future.isDone()) {
+                if (this.acks >= this.quorum) {
+                    this.future.complete(this.snapshot());
+                } else {
+                    this.future.completeExceptionally(
+                        new IOException(
+                            new UncheckedText(
+                                new FormattedText(
+                                    // @checkstyle LineLength (1 line)
+                                    "Only %d of %d remotes answered in %s and %d accepted the wallet, while %d expected",
+                                    this.deliveries.size(), this.total,
+                                    timeout, this.acks, this.quorum
+                                )
+                            ).asString()
+                        )
+                    );
+                }
+            }
+        }
+
+        /**
+         * Complete the future once every remote has answered.
+         */
+        private void finish() {
+            if (this.acks >= this.quorum) {
+                this.future.complete(this.snapshot());
+            } else {
+                this.future.completeExceptionally(
+                    new IOException(
+                        new UncheckedText(
+                            new FormattedText(
+                                // @checkstyle LineLength (1 line)
+                                "Only %d of %d remotes accepted the wallet, while %d expected",
+                                this.acks, this.total, this.quorum
+                            )
+                        ).asString()
+                    )
+                );
+            }
+        }
+
+        /**
+         * Deliveries so far, as they are now.
+         * @return Deliveries
+         */
+        private List<Delivery> snapshot() {
+            return Collections.unmodifiableList(
+                new ArrayList<>(this.deliveries)
+            );
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.StreamSupport;
+import org.cactoos.Proc;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Processing of many wallets at once, on all cores of a pool.
+ *
+ * <p>Wallets are taken from their {@link Iterable#spliterator()}, which
+ * {@link WalletsIn} splits evenly. A wallet that fails doesn't stop the
+ * others: all of them are processed, and the failures are reported
+ * together at the end.
+ *
+ * @since 1.0
+ */
+public final class Bulk {
+
+    /**
+     * The wallets.
+     */
+    private final Iterable<Wallet> wallets;
+
+    /**
+     * Where wallets are processed.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Ctor.
+     * @param wallets The wallets
+     */
+    public Bulk(final Iterable<Wallet> wallets) {
+        this(wallets, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param wallets The wallets
+     * @param pool Where wallets are processed
+     */
+    public Bulk(final Iterable<Wallet> wallets, final ForkJoinPool pool) {
+        this.wallets = wallets;
+        this.pool = pool;
+    }
+
+    /**
+     * Process every wallet.
+     * @param proc What to do with a wallet
+     * @throws IOException If any wallet failed, with every failure
+     *  suppressed in it
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public void forEach(final Proc<Wallet> proc) throws IOException {
+        final Queue<Exception> failures = new ConcurrentLinkedQueue<>();
+        final AtomicInteger total = new AtomicInteger();
+        try {
+            this.pool.submit(
+                () -> StreamSupport.stream(this.wallets.spliterator(), true)
+                    .forEach(
+                        wallet -> {
+                            total.incrementAndGet();
+                            try {
+                                proc.exec(wallet);
+                            // @checkstyle IllegalCatchCheck (1 line)
+                            } catch (final Exception ex) {
+                                failures.add(ex);
+                            }
+                        }
+                    )
+            ).get();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while processing wallets", ex);
+        } catch (final ExecutionException ex) {
+            throw new IOException("Can't process wallets", ex.getCause());
+        }
+        if (!failures.isEmpty()) {
+            final IOException error = new IOException(
+                new UncheckedText(
+                    new FormattedText(
+                        "%d of %d wallets failed",
+                        failures.size(),
+                        total.get()
+                    )
+                ).asString()
+            );
+            failures.forEach(error::addSuppressed);
+            throw error;
+        }
+    }
+}
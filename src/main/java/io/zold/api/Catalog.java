@@ -0,0 +1,326 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.IoChecked;
+import org.cactoos.scalar.Sticky;
+
+/**
+ * Wallet files in a directory, indexed by wallet id.
+ *
+ * <p>A wallet file is named after the id of the wallet in hex, like
+ * {@link WalletsIn#create()} names it, so the index is built from file
+ * names only, with a single listing of the directory. Afterwards a
+ * {@link WatchService} tells which files come and go, and its events are
+ * applied before every lookup. As the events come with a delay, a lookup
+ * that misses checks the file where the wallet would be, and a lookup
+ * that hits checks that the file is still there.
+ *
+ * <p>The index, with its watcher, is built by the first lookup and kept
+ * until the catalog is closed, so a catalog that finds wallets must be
+ * closed. If the directory stops being watched, for example because it
+ * was deleted, the watcher is closed and the next lookup builds the
+ * index again.
+ *
+ * @since 1.0
+ */
+final class Catalog implements Closeable {
+
+    /**
+     * The directory.
+     */
+    private final IoChecked<Path> dir;
+
+    /**
+     * Glob of wallet files in the directory.
+     */
+    private final String glob;
+
+    /**
+     * Wallets file extension.
+     */
+    private final String ext;
+
+    /**
+     * The index, once it's built.
+     */
+    private final AtomicReference<Catalog.Index> index;
+
+    /**
+     * Ctor.
+     * @param dir The directory
+     * @param ext Wallets file extension
+     */
+    Catalog(final Scalar<Path> dir, final String ext) {
+        this(new IoChecked<>(new Sticky<>(dir)), ext);
+    }
+
+    /**
+     * Ctor.
+     * @param dir The directory
+     * @param ext Wallets file extension
+     */
+    private Catalog(final IoChecked<Path> dir, final String ext) {
+        this.dir = dir;
+        this.glob = String.format("*.%s", ext);
+        this.ext = ext;
+        this.index = new AtomicReference<>();
+    }
+
+    /**
+     * Wallet files in the directory, listed now.
+     * @return Paths of the files
+     * @throws IOException If the directory can't be listed
+     */
+    List<Path> files() throws IOException {
+        final List<Path> files = new ArrayList<>(0);
+        try (DirectoryStream<Path> stream =
+            Files.newDirectoryStream(this.dir.value(), this.glob)) {
+            for (final Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * File of the wallet.
+     * @param id Wallet id
+     * @return The file, if there is one
+     * @throws IOException If the directory can't be read
+     */
+    Optional<Path> find(final long id) throws IOException {
+        Catalog.Index idx = this.index();
+        if (!idx.drain()) {
+            if (this.index.compareAndSet(idx, null)) {
+                idx.close();
+            }
+            idx = this.index();
+        }
+        Optional<Path> found = Optional.ofNullable(idx.ids.get(id))
+            .filter(Files::isRegularFile);
+        if (!found.isPresent()) {
+            found = this.probe(id);
+            final Map<Long, Path> ids = idx.ids;
+            found.ifPresent(file -> ids.put(id, file));
+        }
+        return found;
+    }
+
+    @Override
+    public void close() throws IOException {
+        final Catalog.Index idx = this.index.getAndSet(null);
+        if (idx != null) {
+            idx.close();
+        }
+    }
+
+    /**
+     * The index of the directory, built by the first lookup that needs it.
+     * @return The index
+     * @throws IOException If the directory can't be read
+     */
+    private Catalog.Index index() throws IOException {
+        synchronized (this.index) {
+            Catalog.Index idx = this.index.get();
+            if (idx == null) {
+                idx = Catalog.Index.of(this.dir.value(), this.ext);
+                this.index.set(idx);
+            }
+            return idx;
+        }
+    }
+
+    /**
+     * Look for the file where the wallet would be.
+     * @param id Wallet id
+     * @return The file, if it exists
+     * @throws IOException If the directory can't be read
+     */
+    private Optional<Path> probe(final long id) throws IOException {
+        Optional<Path> found = Optional.empty();
+        for (final String name : new String[] {
+            Long.toHexString(id), String.format("%016x", id),
+        }) {
+            final Path file = this.dir.value().resolve(
+                String.format("%s.%s", name, this.ext)
+            );
+            if (Files.isRegularFile(file)) {
+                found = Optional.of(file);
+                break;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Wallet id a file is named after.
+     * @param file The file
+     * @param ext Wallets file extension
+     * @return Wallet id, empty if it's not a wallet file
+     */
+    static Optional<Long> id(final Path file, final String ext) {
+        final String name = file.getFileName().toString();
+        final int dot = name.length() - ext.length() - 1;
+        Optional<Long> id = Optional.empty();
+        // @checkstyle MagicNumberCheck (2 lines)
+        if (dot > 0 && dot <= 16 && name.charAt(dot) == '.'
+            && name.endsWith(ext)) {
+            try {
+                id = Optional.of(
+                    Long.parseUnsignedLong(name.substring(0, dot), 16)
+                );
+            } catch (final NumberFormatException ex) {
+                id = Optional.empty();
+            }
+        }
+        return id;
+    }
+
+    /**
+     * Ids of wallet files, with the watcher keeping them current.
+     * @since 1.0
+     */
+    private static final class Index implements Closeable {
+
+        /**
+         * The directory.
+         */
+        private final Path dir;
+
+        /**
+         * Wallets file extension.
+         */
+        private final String ext;
+
+        /**
+         * Watcher of the directory.
+         */
+        private final WatchService watcher;
+
+        /**
+         * Files, by wallet id.
+         */
+        private final Map<Long, Path> ids;
+
+        /**
+         * Ctor.
+         * @param dir The directory
+         * @param ext Wallets file extension
+         * @param watcher Watcher of the directory
+         * @param ids Files, by wallet id
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Index(final Path dir, final String ext, final WatchService watcher,
+            final Map<Long, Path> ids) {
+            this.dir = dir;
+            this.ext = ext;
+            this.watcher = watcher;
+            this.ids = ids;
+        }
+
+        /**
+         * Build the index. The watcher is registered before the directory
+         * is listed, so no file is missed in between.
+         * @param dir The directory
+         * @param ext Wallets file extension
+         * @return The index
+         * @throws IOException If the directory can't be read
+         */
+        static Catalog.Index of(final Path dir, final String ext)
+            throws IOException {
+            final WatchService watcher = dir.getFileSystem().newWatchService();
+            dir.register(
+                watcher,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_DELETE
+            );
+            final Catalog.Index index = new Catalog.Index(
+                dir, ext, watcher, new ConcurrentHashMap<>(0)
+            );
+            index.rebuild();
+            return index;
+        }
+
+        /**
+         * Apply the changes the watcher has seen so far.
+         * @return FALSE if the directory is no longer watched
+         * @throws IOException If the directory can't be read
+         */
+        synchronized boolean drain() throws IOException {
+            boolean valid = true;
+            WatchKey key = this.watcher.poll();
+            while (valid && key != null) {
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                        this.rebuild();
+                    } else {
+                        this.apply(
+                            event.kind(),
+                            this.dir.resolve((Path) event.context())
+                        );
+                    }
+                }
+                valid = key.reset();
+                key = this.watcher.poll();
+            }
+            return valid;
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.watcher.close();
+        }
+
+        /**
+         * Apply one change.
+         * @param kind What happened to the file
+         * @param file The file
+         */
+        private void apply(final WatchEvent.Kind<?> kind, final Path file) {
+            final Optional<Long> id = Catalog.id(file, this.ext);
+            if (id.isPresent()) {
+                if (kind == StandardWatchEventKinds.ENTRY_CREATE) {
+                    this.ids.put(id.get(), file);
+                } else {
+                    this.ids.remove(id.get(), file);
+                }
+            }
+        }
+
+        /**
+         * List the directory again.
+         * @throws IOException If the directory can't be read
+         */
+        private void rebuild() throws IOException {
+            this.ids.clear();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(
+                this.dir, String.format("*.%s", this.ext)
+            )) {
+                for (final Path file : stream) {
+                    this.apply(StandardWatchEventKinds.ENTRY_CREATE, file);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Characters of a region of a byte buffer, one byte per character.
+ *
+ * <p>Nothing is decoded or copied until {@link #toString()} is called.
+ * Transactions are plain ASCII, so a byte is taken as a character of
+ * ISO-8859-1.
+ *
+ * @since 1.0
+ */
+final class Chars implements CharSequence {
+
+    /**
+     * The buffer.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * Where the region starts.
+     */
+    private final int start;
+
+    /**
+     * Where the region ends, exclusive.
+     */
+    private final int end;
+
+    /**
+     * Ctor.
+     * @param buffer The buffer
+     * @param start Where the region starts
+     * @param end Where the region ends, exclusive
+     */
+    Chars(final ByteBuffer buffer, final int start, final int end) {
+        this.buffer = buffer;
+        this.start = start;
+        this.end = end;
+    }
+
+    @Override
+    public int length() {
+        return this.end - this.start;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= this.length()) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index %d is out of %d", index, this.length())
+            );
+        }
+        // @checkstyle MagicNumber (1 line)
+        return (char) (this.buffer.get(this.start + index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(final int from, final int upto) {
+        if (from < 0 || upto > this.length() || from > upto) {
+            throw new IndexOutOfBoundsException(
+                String.format(
+                    "Range %d..%d is out of %d", from, upto, this.length()
+                )
+            );
+        }
+        return new Chars(this.buffer, this.start + from, this.start + upto);
+    }
+
+    @Override
+    public String toString() {
+        final byte[] bytes = new byte[this.length()];
+        for (int idx = 0; idx < bytes.length; ++idx) {
+            bytes[idx] = this.buffer.get(this.start + idx);
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
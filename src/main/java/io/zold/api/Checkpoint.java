@@ -0,0 +1,156 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.IoChecked;
+
+/**
+ * Balance of a wallet file, kept in a checkpoint next to it.
+ *
+ * <p>The checkpoint, a {@code .balance} file, has the offset in the
+ * wallet file up to which the ledger is summed, the balance there,
+ * see {@link Balance}, and the {@link Stamp} of the file up to the
+ * offset. Every time the balance is asked for, only the lines after the
+ * offset are read, and the checkpoint moves to the end of the last whole
+ * line. If the wallet file is shorter than the offset, or its stamp
+ * differs, it was replaced, and the ledger is summed from the start.
+ *
+ * @since 1.0
+ */
+final class Checkpoint {
+
+    /**
+     * The wallet file.
+     */
+    private final Path path;
+
+    /**
+     * The checkpoint file.
+     */
+    private final Path file;
+
+    /**
+     * Stamp of the wallet file.
+     */
+    private final Stamp stamp;
+
+    /**
+     * Where the lines written so far end.
+     */
+    private final IoChecked<Long> end;
+
+    /**
+     * Ctor.
+     * @param path The wallet file
+     * @param end Where the lines written so far end
+     */
+    Checkpoint(final Path path, final Scalar<Long> end) {
+        this.path = path;
+        this.file = Checkpoint.sidecar(path);
+        this.stamp = new Stamp(path);
+        this.end = new IoChecked<>(end);
+    }
+
+    /**
+     * File of the checkpoint, next to the wallet file.
+     * @param path The wallet file
+     * @return The checkpoint file
+     */
+    static Path sidecar(final Path path) {
+        return path.resolveSibling(
+            String.format("%s.balance", path.getFileName())
+        );
+    }
+
+    /**
+     * Balance of the wallet, reading only what's new since the last time.
+     * @return Balance
+     * @throws IOException If the wallet can't be read
+     */
+    long balance() throws IOException {
+        final long end = this.end.value();
+        long from = 0L;
+        final long[] sums = new long[2];
+        final long[] saved = this.saved();
+        if (saved.length == 3 && saved[0] <= end
+            && saved[2] == this.stamp.value(saved[0])) {
+            from = saved[0];
+            sums[0] = saved[1];
+        }
+        sums[1] = sums[0];
+        final long offset = new Tail(this.path).read(
+            from, end,
+            (start, line, whole) -> {
+                final long next = Balance.next(
+                    sums[0], new RtTransaction(line).amount()
+                );
+                sums[1] = next;
+                if (whole) {
+                    sums[0] = next;
+                }
+            }
+        );
+        if (saved.length != 3 || from != saved[0] || from != offset) {
+            this.save(offset, sums[0]);
+        }
+        return sums[1];
+    }
+
+    /**
+     * Offset, balance and stamp saved in the checkpoint.
+     * @return All three, or nothing if there is no checkpoint
+     * @throws IOException If it can't be read
+     */
+    private long[] saved() throws IOException {
+        long[] saved = new long[0];
+        try {
+            final List<String> lines = Files.readAllLines(this.file);
+            if (!lines.isEmpty()) {
+                final String[] parts = lines.get(0).split(" ");
+                if (parts.length == 3) {
+                    saved = new long[] {
+                        Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                        Long.parseLong(parts[2]),
+                    };
+                }
+            }
+        } catch (final NoSuchFileException | NumberFormatException ex) {
+            saved = new long[0];
+        }
+        return saved;
+    }
+
+    /**
+     * Save the checkpoint, replacing the old one at once.
+     * @param offset Where the summed lines end
+     * @param balance Balance there
+     * @throws IOException If it can't be written
+     */
+    private void save(final long offset, final long balance)
+        throws IOException {
+        final Path temp = Files.createTempFile(
+            this.file.toAbsolutePath().getParent(),
+            this.file.getFileName().toString(), ".tmp"
+        );
+        Files.write(
+            temp,
+            String.format(
+                "%d %d %d%n", offset, balance, this.stamp.value(offset)
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        Files.move(
+            temp, this.file,
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+        );
+    }
+}
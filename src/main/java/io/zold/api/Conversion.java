@@ -0,0 +1,164 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Conversion of a wallet between the text format and the binary format
+ * of {@link Wallet.Binary}, both ways and without loss: the text made
+ * from a binary wallet has the same header and transaction lines as the
+ * text it was made from. A transaction that can't make the same line
+ * again, for example one with uppercase hex, stops the conversion.
+ *
+ * <p>The target file is written aside and moved in place at once, so it
+ * is never seen half-written. If the conversion fails, the file written
+ * aside is deleted.
+ *
+ * @since 1.0
+ */
+public final class Conversion {
+
+    /**
+     * The wallet in the text format.
+     */
+    private final Path text;
+
+    /**
+     * The wallet in the binary format.
+     */
+    private final Path binary;
+
+    /**
+     * Ctor.
+     * @param text The wallet in the text format
+     * @param binary The wallet in the binary format
+     */
+    public Conversion(final Path text, final Path binary) {
+        this.text = text;
+        this.binary = binary;
+    }
+
+    /**
+     * Make the binary wallet from the text one.
+     * @throws IOException If the text wallet is broken
+     */
+    public void toBinary() throws IOException {
+        final Iterator<String> lines = new Lines(this.text).iterator();
+        final List<String> header = new ArrayList<>(BinaryLedger.HEADER);
+        while (header.size() < BinaryLedger.HEADER && lines.hasNext()) {
+            header.add(lines.next());
+        }
+        if (header.size() < BinaryLedger.HEADER
+            || lines.hasNext() && !lines.next().isEmpty()) {
+            throw new IOException(
+                new UncheckedText(
+                    new FormattedText(
+                        "Wallet %s has no valid header", this.text
+                    )
+                ).asString()
+            );
+        }
+        final Path temp = Conversion.temp(this.binary);
+        try {
+            try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp))
+            )) {
+                out.writeInt(BinaryLedger.MAGIC);
+                for (final String line : header) {
+                    final byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+                    out.writeShort(bytes.length);
+                    out.write(bytes);
+                }
+                final List<Integer> index = new ArrayList<>(0);
+                while (lines.hasNext()) {
+                    final String line = lines.next();
+                    if (!line.isEmpty()) {
+                        index.add(out.size());
+                        out.write(
+                            BinaryTransaction.record(new RtTransaction(line))
+                        );
+                    }
+                }
+                final int start = out.size();
+                for (final int offset : index) {
+                    out.writeInt(offset);
+                }
+                out.writeInt(index.size());
+                out.writeInt(start);
+                out.writeInt(BinaryLedger.MAGIC);
+            }
+            Conversion.move(temp, this.binary);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Make the text wallet from the binary one.
+     * @throws IOException If the binary wallet is broken
+     */
+    public void toText() throws IOException {
+        final BinaryLedger ledger = new BinaryLedger(this.binary);
+        final Path temp = Conversion.temp(this.text);
+        try {
+            try (Writer out = Files.newBufferedWriter(
+                temp, StandardCharsets.UTF_8
+            )) {
+                for (final String line : ledger.header()) {
+                    out.write(line);
+                    out.write('\n');
+                }
+                out.write('\n');
+                for (final Transaction txn : ledger) {
+                    out.write(txn.toString());
+                    out.write('\n');
+                }
+            }
+            Conversion.move(temp, this.text);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * File to write aside of the target.
+     * @param target The target
+     * @return Temporary file in the same directory
+     * @throws IOException If it can't be created
+     */
+    private static Path temp(final Path target) throws IOException {
+        return Files.createTempFile(
+            target.toAbsolutePath().getParent(),
+            target.getFileName().toString(), ".tmp"
+        );
+    }
+
+    /**
+     * Move the file in place of the target at once.
+     * @param temp The file
+     * @param target The target
+     * @throws IOException If it can't be moved
+     */
+    private static void move(final Path temp, final Path target)
+        throws IOException {
+        Files.move(
+            temp, target,
+            StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE
+        );
+    }
+}
@@ -6,71 +6,284 @@ package io.zold.api;
 
 import io.zold.api.Copies.Copy;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import org.cactoos.iterable.IterableEnvelope;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.iterable.Joined;
 import org.cactoos.iterable.Mapped;
 import org.cactoos.list.ListOf;
+import org.cactoos.map.MapEntry;
 
 /**
  * Multiple copies of a Wallet.
  * @since 1.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (3 lines)
  */
 public final class Copies extends IterableEnvelope<Copy> {
 
+    /**
+     * Log of remotes left out.
+     */
+    private static final Logger LOG = Logger.getLogger(
+        Copies.class.getName()
+    );
+
+    /**
+     * Threads pulling wallets, shared by all copies.
+     */
+    private static final ExecutorService POOL = Executors.newFixedThreadPool(
+        // @checkstyle MagicNumberCheck (1 line)
+        16,
+        task -> {
+            final Thread thread = new Thread(task, "zold-copies");
+            thread.setDaemon(true);
+            return thread;
+        }
+    );
+
+    /**
+     * Timer of pulls, shared by all copies.
+     */
+    private static final ScheduledExecutorService TIMER = Copies.timer();
+
+    /**
+     * How long to wait for a remote, by default.
+     */
+    private static final Duration TIMEOUT = Duration.ofSeconds(10L);
+
     /**
      * Ctor.
      * @param id Id of the wallet to pull
      * @param remotes Remote nodes
      */
     Copies(final long id, final Iterable<Remote> remotes) {
-        super(new IterableOf<>(() -> copies(id, remotes).iterator()));
+        this(id, remotes, Copies.TIMEOUT);
+    }
+
+    /**
+     * Ctor.
+     * @param id Id of the wallet to pull
+     * @param remotes Remote nodes
+     * @param timeout How long to wait for each remote
+     */
+    Copies(final long id, final Iterable<Remote> remotes,
+        final Duration timeout) {
+        this(id, remotes, Copies.POOL, timeout);
+    }
+
+    /**
+     * Ctor.
+     * @param id Id of the wallet to pull
+     * @param remotes Remote nodes
+     * @param executor Where remotes are pulled
+     * @param timeout How long to wait for each remote
+     */
+    Copies(final long id, final Iterable<Remote> remotes,
+        final Executor executor, final Duration timeout) {
+        super(
+            new IterableOf<>(
+                () -> copies(id, remotes, executor, timeout).iterator()
+            )
+        );
     }
 
     /**
      * Builds copies from remotes.
+     *
+     * <p>All remotes are pulled concurrently and their wallets are grouped
+     * as they arrive, by their {@link Fingerprint}, which each pull computes
+     * right after the wallet is received. A remote that doesn't answer in
+     * time, counting from when its pull is submitted, is left out, so no
+     * remote is waited for longer than the timeout, even when it waits for
+     * a free thread. A remote that fails, or sends a wallet that can't be
+     * read, is logged and left out too. Only an {@link Error} is thrown.
+     *
      * @param id Wallet's id
      * @param remotes List of remotes
+     * @param executor Where remotes are pulled
+     * @param timeout How long to wait for each remote
      * @return Iterable Iterable of Copy
      * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
      */
     private static Iterable<Copy> copies(final long id,
-        final Iterable<Remote> remotes) throws IOException {
-        final List<Copy> copies = new ArrayList<>(10);
-        for (final Remote remote : remotes) {
-            final Wallet wallet = remote.pull(id);
-            boolean updated = false;
-            for (int idx = 0; idx < copies.size(); idx += 1) {
-                final Copy copy = copies.get(idx);
-                if (Copies.equalWallets(copies.get(idx).wallet(), wallet)) {
-                    copies.set(idx, copy.with(remote));
-                    updated = true;
+        final Iterable<Remote> remotes, final Executor executor,
+        final Duration timeout) throws IOException {
+        final List<Remote> nodes = new ListOf<>(remotes);
+        final Map<String, Copy> copies = new LinkedHashMap<>(nodes.size());
+        final BlockingQueue<Copies.Pull> done =
+            new LinkedBlockingQueue<>();
+        final List<Copies.Pull> pulls = new ArrayList<>(nodes.size());
+        try {
+            for (final Remote remote : nodes) {
+                final Copies.Pull pull = new Copies.Pull(
+                    id, remote, timeout, done
+                );
+                pulls.add(pull);
+                pull.submit(executor);
+            }
+            for (int left = nodes.size(); left > 0; left -= 1) {
+                final Copies.Pull pulled = done.take();
+                final Map.Entry<String, Copy> entry = pulled.entry();
+                if (entry != null) {
+                    copies.merge(entry.getKey(), entry.getValue(), Copy::with);
                 }
             }
-            if (!updated) {
-                copies.add(new Copies.Copy(wallet, remote));
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while pulling copies", ex);
+        } finally {
+            for (final Copies.Pull pull : pulls) {
+                pull.cancel(true);
             }
         }
-        return new IterableOf<>(copies.iterator());
+        return copies.values();
     }
 
     /**
-     * Checks if content of two wallets is equal.
-     * @param first First wallet
-     * @param second Second wallet
-     * @return Boolean Boolean
-     * @throws IOException If fails
-     * @todo #56:30min Compare the entire content of two wallets. In addition
-     *  to id, compare RSA key and all transactions one by one. Entire content
-     *  of each transaction should be compared.
+     * Timer of pulls, with a daemon thread.
+     * @return Timer
      */
-    private static boolean equalWallets(final Wallet first,
-        final Wallet second) throws IOException {
-        return first.id() == second.id() && new ListOf<>(
-            first.ledger()
-        ).size() == new ListOf<>(second.ledger()).size();
+    private static ScheduledExecutorService timer() {
+        final ScheduledThreadPoolExecutor timer =
+            new ScheduledThreadPoolExecutor(
+                1,
+                task -> {
+                    final Thread thread = new Thread(
+                        task, "zold-copies-timer"
+                    );
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            );
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+
+    /**
+     * Pull of a wallet from one remote, cancelled when it takes too long.
+     * @since 1.0
+     */
+    private static final class Pull
+        extends FutureTask<Map.Entry<String, Copy>> {
+
+        /**
+         * The remote.
+         */
+        private final Remote remote;
+
+        /**
+         * How long to wait for the remote.
+         */
+        private final Duration timeout;
+
+        /**
+         * Pulls which are done.
+         */
+        private final BlockingQueue<Copies.Pull> done;
+
+        /**
+         * Timer cancelling the pull, once it's submitted.
+         */
+        private final AtomicReference<ScheduledFuture<?>> timer;
+
+        /**
+         * Ctor.
+         * @param id Id of the wallet to pull
+         * @param remote The remote
+         * @param timeout How long to wait for the remote
+         * @param done Pulls which are done
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Pull(final long id, final Remote remote, final Duration timeout,
+            final BlockingQueue<Copies.Pull> done) {
+            super(
+                () -> {
+                    final Wallet wallet = remote.pull(id);
+                    return new MapEntry<>(
+                        new Fingerprint(wallet).asString(),
+                        new Copies.Copy(wallet, remote)
+                    );
+                }
+            );
+            this.remote = remote;
+            this.timeout = timeout;
+            this.done = done;
+            this.timer = new AtomicReference<>();
+        }
+
+        /**
+         * Submit the pull and start counting its time.
+         * @param executor Where to run it
+         */
+        void submit(final Executor executor) {
+            this.timer.set(
+                Copies.TIMER.schedule(
+                    () -> this.cancel(true),
+                    this.timeout.toNanos(), TimeUnit.NANOSECONDS
+                )
+            );
+            executor.execute(this);
+        }
+
+        /**
+         * The wallet pulled and its fingerprint.
+         * @return The entry, or NULL if the remote is left out
+         * @throws InterruptedException If interrupted
+         */
+        Map.Entry<String, Copy> entry() throws InterruptedException {
+            Map.Entry<String, Copy> entry = null;
+            try {
+                entry = this.get();
+            } catch (final CancellationException ex) {
+                Copies.LOG.log(
+                    Level.WARNING,
+                    String.format(
+                        "Remote %s didn't answer in %s",
+                        this.remote, this.timeout
+                    )
+                );
+            } catch (final ExecutionException ex) {
+                final Throwable cause = ex.getCause();
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                Copies.LOG.log(
+                    Level.WARNING,
+                    String.format("Remote %s failed", this.remote),
+                    cause
+                );
+            }
+            return entry;
+        }
+
+        @Override
+        protected void done() {
+            final ScheduledFuture<?> scheduled = this.timer.get();
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+            this.done.add(this);
+        }
     }
 
     /**
@@ -89,6 +302,11 @@ public final class Copies extends IterableEnvelope<Copy> {
          */
         private final Iterable<Remote> remotes;
 
+        /**
+         * The summary of the score of all the remote nodes.
+         */
+        private final Score summed;
+
         /**
          * Ctor.
          * @param wallet The wallet
@@ -104,8 +322,23 @@ public final class Copies extends IterableEnvelope<Copy> {
          * @param remotes The remote nodes where the wallet was found
          */
         Copy(final Wallet wallet, final Iterable<Remote> remotes) {
+            this(
+                wallet, remotes,
+                new Score.Summed(new Mapped<>(Remote::score, remotes))
+            );
+        }
+
+        /**
+         * Ctor.
+         * @param wallet The wallet
+         * @param remotes The remote nodes where the wallet was found
+         * @param score The summary of the score of all the remote nodes
+         */
+        private Copy(final Wallet wallet, final Iterable<Remote> remotes,
+            final Score score) {
             this.wlt = wallet;
             this.remotes = remotes;
+            this.summed = score;
         }
 
         @Override
@@ -125,12 +358,15 @@ public final class Copies extends IterableEnvelope<Copy> {
         }
 
         /**
-         * Creates new Copy instance with additional remote.
-         * @param remote Remote
+         * Creates new Copy instance with the remotes of another copy of the
+         * same wallet.
+         * @param other Other copy
          * @return Copy Copy
          */
-        Copies.Copy with(final Remote remote) {
-            return new Copies.Copy(this.wallet(), new Joined<>(remote, this.remotes));
+        Copies.Copy with(final Copies.Copy other) {
+            return new Copies.Copy(
+                this.wallet(), new Joined<Remote>(other.remotes, this.remotes)
+            );
         }
 
         /**
@@ -146,7 +382,7 @@ public final class Copies extends IterableEnvelope<Copy> {
          * @return The score
          */
         Score score() {
-            return new Score.Summed(new Mapped<>(Remote::score, this.remotes));
+            return this.summed;
         }
     }
 }
@@ -4,23 +4,168 @@
  */
 package io.zold.api;
 
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Computed Transaction.
+ *
+ * <p>The line {@code id;time;amount;prefix;bnf;details;signature} is
+ * written straight into a builder reused by the thread, with the id, the
+ * amount and the beneficiary as fixed-width hex, so making a transaction
+ * allocates little more than the line itself.
+ *
  * @since 1.0
- * @todo #54:30min Implement the computation of the transaction string
- *  based on the white paper. The unit tests should also be updated to
- *  ensure it works as expected and test for
- *  returnSignatureForNegativeTransaction must be implemented.
+ * @todo #54:30min Sign the transaction with the private RSA key of the
+ *  paying wallet, see the white paper. For now the signature is a
+ *  placeholder of the right length, made of zero bytes, so the line is
+ *  well-formed but its signature doesn't verify.
  */
 public final class CpTransaction extends TransactionEnvelope {
 
+    /**
+     * Hex digits.
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Base64 digits.
+     */
+    private static final char[] BASE64 =
+        "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+            .toCharArray();
+
+    /**
+     * Length of a random prefix.
+     */
+    private static final int PREFIX = 16;
+
+    /**
+     * Placeholder of a signature.
+     */
+    private static final String UNSIGNED = CpTransaction.unsigned();
+
+    /**
+     * Builder of lines, reused by the thread.
+     */
+    private static final ThreadLocal<StringBuilder> LINE =
+        ThreadLocal.withInitial(() -> new StringBuilder(1024));
+
     /**
      * Ctor.
-     * @param amt Amount to pay in zents
+     * @param id Id of the transaction
+     * @param amt Amount in zents, negative for a payment
      * @param bnf Wallet ID of beneficiary
+     */
+    CpTransaction(final int id, final long amt, final long bnf) {
+        this(
+            id,
+            ZonedDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.SECONDS),
+            amt,
+            CpTransaction.prefix(ThreadLocalRandom.current()),
+            bnf,
+            "-"
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param id Id of the transaction
+     * @param time Time of the transaction
+     * @param amt Amount in zents, negative for a payment
+     * @param prefix Prefix of the beneficiary key, in base64
+     * @param bnf Wallet ID of beneficiary
+     * @param details Details of the transaction
+     * @checkstyle ParameterNumberCheck (4 lines)
      * @checkstyle ConstructorsCodeFreeCheck (3 lines)
      */
-    CpTransaction(final long amt, final long bnf) {
-        super(new RtTransaction(Long.toString(amt + bnf)));
+    CpTransaction(final int id, final ZonedDateTime time, final long amt,
+        final String prefix, final long bnf, final String details) {
+        super(
+            new RtTransaction(
+                CpTransaction.line(
+                    id, time, amt, prefix, bnf, details, CpTransaction.UNSIGNED
+                )
+            )
+        );
+    }
+
+    /**
+     * Write the line of a transaction.
+     * @param id Id of the transaction
+     * @param time Time of the transaction
+     * @param amt Amount in zents
+     * @param prefix Prefix of the beneficiary key
+     * @param bnf Wallet ID of beneficiary
+     * @param details Details of the transaction
+     * @param sign Signature, in base64
+     * @return The line
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    static String line(final int id, final ZonedDateTime time,
+        final long amt, final String prefix, final long bnf,
+        final String details, final String sign) {
+        final StringBuilder line = CpTransaction.LINE.get();
+        line.setLength(0);
+        // @checkstyle MagicNumberCheck (1 line)
+        CpTransaction.hex(line, id, 4).append(';');
+        DateTimeFormatter.ISO_OFFSET_DATE_TIME.formatTo(time, line);
+        line.append(';');
+        // @checkstyle MagicNumberCheck (1 line)
+        CpTransaction.hex(line, amt, 16).append(';');
+        line.append(prefix).append(';');
+        // @checkstyle MagicNumberCheck (1 line)
+        CpTransaction.hex(line, bnf, 16).append(';');
+        line.append(details).append(';').append(sign);
+        return line.toString();
+    }
+
+    /**
+     * Append a number as fixed-width lowercase hex.
+     * @param line Where to append
+     * @param num The number
+     * @param width How many digits
+     * @return The same builder
+     */
+    private static StringBuilder hex(final StringBuilder line,
+        final long num, final int width) {
+        // @checkstyle MagicNumberCheck (3 lines)
+        for (int digit = width - 1; digit >= 0; --digit) {
+            line.append(CpTransaction.HEX[(int) (num >>> digit * 4 & 0x0fL)]);
+        }
+        return line;
+    }
+
+    /**
+     * Random prefix, in base64.
+     * @param random Randomizer
+     * @return Prefix
+     */
+    private static String prefix(final Random random) {
+        final char[] prefix = new char[CpTransaction.PREFIX];
+        for (int idx = 0; idx < prefix.length; ++idx) {
+            prefix[idx] = CpTransaction.BASE64[
+                random.nextInt(CpTransaction.BASE64.length)
+            ];
+        }
+        return new String(prefix);
+    }
+
+    /**
+     * Signature of 512 zero bytes, in base64.
+     * @return Signature
+     */
+    private static String unsigned() {
+        // @checkstyle MagicNumberCheck (1 line)
+        final StringBuilder sign = new StringBuilder(684);
+        // @checkstyle MagicNumberCheck (1 line)
+        for (int idx = 0; idx < 682; ++idx) {
+            sign.append('A');
+        }
+        return sign.append("==").toString();
     }
 }
@@ -0,0 +1,44 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+
+/**
+ * How durable a payment is once {@link Wallet#pay(long, long)} returns.
+ * @since 1.0
+ */
+public enum Durability {
+
+    /**
+     * Handed over to the operating system, which writes it to disk
+     * when it sees fit. Fastest, but a crash of the machine may lose it.
+     */
+    BUFFERED,
+
+    /**
+     * Written to disk, with the file size but not other metadata.
+     */
+    DATA,
+
+    /**
+     * Written to disk, with all metadata of the file.
+     */
+    FULL;
+
+    /**
+     * Make written data as durable as this.
+     * @param channel The file
+     * @throws IOException If the file can't be forced
+     */
+    void force(final FileChannel channel) throws IOException {
+        if (this == Durability.DATA) {
+            channel.force(false);
+        } else if (this == Durability.FULL) {
+            channel.force(true);
+        }
+    }
+}
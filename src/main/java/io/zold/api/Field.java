@@ -0,0 +1,132 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Field of a transaction line, found without looking past it.
+ *
+ * <p>Unlike {@link Fields}, which locates all fields at once, the line is
+ * scanned only up to the end of the field asked for, and the field is
+ * decoded straight from the line, without copying. This is what a
+ * {@link Query} reads before a line is let through.
+ *
+ * @since 1.0
+ */
+final class Field {
+
+    /**
+     * The line.
+     */
+    private final CharSequence line;
+
+    /**
+     * Position of the field, starting from zero.
+     */
+    private final int idx;
+
+    /**
+     * Ctor.
+     * @param line The line
+     * @param idx Position of the field, starting from zero
+     */
+    Field(final CharSequence line, final int idx) {
+        this.line = line;
+        this.idx = idx;
+    }
+
+    /**
+     * The field, as a number in hex, the way it's stored: a negative
+     * number is its two's complement.
+     * @return The number
+     * @throws IOException If the field is not a number in hex
+     */
+    long hex() throws IOException {
+        final int start = this.start();
+        final int end = this.end(start);
+        // @checkstyle MagicNumberCheck (1 line)
+        if (end == start || end - start > 16) {
+            throw this.invalid();
+        }
+        long num = 0L;
+        for (int pos = start; pos < end; ++pos) {
+            // @checkstyle MagicNumberCheck (1 line)
+            final int digit = Character.digit(this.line.charAt(pos), 16);
+            if (digit < 0) {
+                throw this.invalid();
+            }
+            // @checkstyle MagicNumberCheck (1 line)
+            num = num << 4 | digit;
+        }
+        return num;
+    }
+
+    /**
+     * The field, as a time.
+     * @return The time
+     * @throws IOException If the field is not a time
+     */
+    ZonedDateTime time() throws IOException {
+        final int start = this.start();
+        return ZonedDateTime.parse(
+            CharBuffer.wrap(this.line, start, this.end(start)),
+            DateTimeFormatter.ISO_OFFSET_DATE_TIME
+        );
+    }
+
+    /**
+     * Where the field starts.
+     * @return Position in the line
+     * @throws IOException If the line has fewer fields
+     */
+    private int start() throws IOException {
+        int pos = 0;
+        int found = 0;
+        while (found < this.idx) {
+            if (pos >= this.line.length()) {
+                throw this.invalid();
+            }
+            if (this.line.charAt(pos) == ';') {
+                found += 1;
+            }
+            pos += 1;
+        }
+        return pos;
+    }
+
+    /**
+     * Where the field ends.
+     * @param start Where it starts
+     * @return Position in the line, after the field
+     */
+    private int end(final int start) {
+        int pos = start;
+        while (pos < this.line.length() && this.line.charAt(pos) != ';') {
+            pos += 1;
+        }
+        return pos;
+    }
+
+    /**
+     * Error of an invalid field.
+     * @return Error
+     */
+    private IOException invalid() {
+        return new IOException(
+            new UncheckedText(
+                new FormattedText(
+                    "Invalid field #%d in transaction line '%s'",
+                    this.idx, this.line
+                )
+            ).asString()
+        );
+    }
+}
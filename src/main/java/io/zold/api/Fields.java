@@ -0,0 +1,120 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.nio.CharBuffer;
+
+/**
+ * Fields of a transaction line, located in a single pass.
+ *
+ * <p>The line is scanned once for {@code ;} separators and the bounds of
+ * the first seven fields are kept in a compact array, so every field is
+ * served as a view over the original line instead of splitting it again.
+ * Fields are counted the way {@link String#split(String)} counts them:
+ * trailing empty fields are not counted.
+ *
+ * @since 1.0
+ */
+final class Fields {
+
+    /**
+     * Fields a transaction line is made of.
+     */
+    private static final int SIZE = 7;
+
+    /**
+     * The line.
+     */
+    private final CharSequence line;
+
+    /**
+     * Separator positions: field {@code i} spans from {@code edges[i] + 1}
+     * to {@code edges[i + 1]}; the last slot holds the count of fields.
+     */
+    private final int[] edges;
+
+    /**
+     * Ctor.
+     * @param line The line
+     */
+    Fields(final CharSequence line) {
+        this(line, Fields.scan(line));
+    }
+
+    /**
+     * Ctor.
+     * @param line The line
+     * @param edges Separator positions and the count of fields
+     */
+    private Fields(final CharSequence line, final int[] edges) {
+        this.line = line;
+        this.edges = edges;
+    }
+
+    /**
+     * How many fields there are in the line.
+     * @return Count of fields
+     */
+    int count() {
+        return this.edges[Fields.SIZE + 1];
+    }
+
+    /**
+     * View of a field, no characters are copied.
+     * @param idx Position of the field, starting from zero
+     * @return The field
+     */
+    CharSequence at(final int idx) {
+        return CharBuffer.wrap(this.line, this.edges[idx] + 1, this.edges[idx + 1]);
+    }
+
+    /**
+     * Field materialized as a string.
+     * @param idx Position of the field, starting from zero
+     * @return The field
+     */
+    String text(final int idx) {
+        return this.line.subSequence(
+            this.edges[idx] + 1, this.edges[idx + 1]
+        ).toString();
+    }
+
+    @Override
+    public String toString() {
+        return this.line.toString();
+    }
+
+    /**
+     * Scan the line for separators.
+     * @param line The line
+     * @return Separator positions followed by the count of fields
+     */
+    private static int[] scan(final CharSequence line) {
+        final int[] edges = new int[Fields.SIZE + 2];
+        edges[0] = -1;
+        int found = 0;
+        int last = -1;
+        int start = 0;
+        final int length = line.length();
+        for (int pos = 0; pos <= length; ++pos) {
+            if (pos == length || line.charAt(pos) == ';') {
+                if (found < Fields.SIZE) {
+                    edges[found + 1] = pos;
+                }
+                if (pos > start) {
+                    last = found;
+                }
+                found += 1;
+                start = pos + 1;
+            }
+        }
+        if (found == 1) {
+            edges[Fields.SIZE + 1] = 1;
+        } else {
+            edges[Fields.SIZE + 1] = last + 1;
+        }
+        return edges;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 digest of the whole content of a wallet.
+ *
+ * <p>The id, the key and every field of every transaction are fed to the
+ * digest as the ledger is read, so wallets with the same fingerprint have
+ * the same content, and the ledger is never held in memory for that.
+ *
+ * @since 1.0
+ */
+final class Fingerprint {
+
+    /**
+     * Hex digits.
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * The wallet.
+     */
+    private final Wallet wallet;
+
+    /**
+     * Ctor.
+     * @param wallet The wallet
+     */
+    Fingerprint(final Wallet wallet) {
+        this.wallet = wallet;
+    }
+
+    /**
+     * The fingerprint, in hex.
+     * @return Fingerprint
+     * @throws IOException If the wallet can't be read
+     */
+    String asString() throws IOException {
+        final MessageDigest digest = Fingerprint.sha();
+        // @checkstyle MagicNumberCheck (1 line)
+        digest.update(ByteBuffer.allocate(8).putLong(this.wallet.id()).array());
+        Fingerprint.update(digest, this.wallet.key());
+        for (final Transaction txn : this.wallet.ledger()) {
+            Fingerprint.update(digest, Integer.toString(txn.id()));
+            Fingerprint.update(digest, txn.time().toString());
+            Fingerprint.update(digest, Long.toString(txn.amount()));
+            Fingerprint.update(digest, txn.prefix());
+            Fingerprint.update(digest, txn.bnf());
+            Fingerprint.update(digest, txn.details());
+            Fingerprint.update(digest, txn.signature());
+        }
+        final byte[] hash = digest.digest();
+        final char[] hex = new char[hash.length * 2];
+        for (int idx = 0; idx < hash.length; ++idx) {
+            // @checkstyle MagicNumberCheck (2 lines)
+            hex[idx * 2] = Fingerprint.HEX[(hash[idx] >> 4) & 0x0f];
+            hex[idx * 2 + 1] = Fingerprint.HEX[hash[idx] & 0x0f];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * Feed a field to the digest, terminated so that fields can't run
+     * into each other.
+     * @param digest The digest
+     * @param field The field
+     */
+    private static void update(final MessageDigest digest,
+        final String field) {
+        digest.update(field.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    /**
+     * New SHA-256 digest.
+     * @return Digest
+     * @throws IOException If there is no SHA-256 in this JVM
+     */
+    private static MessageDigest sha() throws IOException {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
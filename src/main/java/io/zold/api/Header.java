@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.util.List;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Header of a wallet file: network, protocol, id and public RSA key.
+ *
+ * <p>The header remembers the size and the modification time of the file
+ * it was read from, so {@link Headers} can tell whether it is still
+ * valid.
+ *
+ * @since 1.0
+ */
+final class Header {
+
+    /**
+     * Lines of the header.
+     */
+    private final List<String> lines;
+
+    /**
+     * Size of the file, when the header was read.
+     */
+    private final long size;
+
+    /**
+     * Modification time of the file in milliseconds, when the header
+     * was read.
+     */
+    private final long modified;
+
+    /**
+     * Ctor.
+     * @param lines Lines of the header
+     * @param size Size of the file
+     * @param modified Modification time of the file in milliseconds
+     */
+    Header(final List<String> lines, final long size, final long modified) {
+        this.lines = lines;
+        this.size = size;
+        this.modified = modified;
+    }
+
+    /**
+     * Network the wallet belongs to.
+     * @return Network
+     */
+    String network() {
+        return this.lines.get(0);
+    }
+
+    /**
+     * Version of the protocol.
+     * @return Protocol
+     * @throws IOException If it's not a number
+     */
+    int protocol() throws IOException {
+        final String line = this.lines.get(1);
+        try {
+            return Integer.parseInt(line);
+        } catch (final NumberFormatException ex) {
+            throw new IOException(
+                new UncheckedText(
+                    new FormattedText("Invalid protocol '%s'", line)
+                ).asString(),
+                ex
+            );
+        }
+    }
+
+    /**
+     * Id of the wallet. Like {@link Wallet.File#id()} always did, it lets
+     * {@link NumberFormatException} through if the id is not in hex.
+     * @return Id
+     */
+    long id() {
+        // @checkstyle MagicNumber (1 line)
+        return Long.parseUnsignedLong(this.lines.get(2), 16);
+    }
+
+    /**
+     * Public RSA key of the wallet owner, in Base64.
+     * @return Key
+     */
+    String key() {
+        // @checkstyle MagicNumber (1 line)
+        return this.lines.get(3);
+    }
+
+    /**
+     * Whether the header was read from a file of this size and
+     * modification time.
+     * @param length Size of the file
+     * @param time Modification time of the file in milliseconds
+     * @return TRUE if the file was not changed since
+     */
+    boolean fresh(final long length, final long time) {
+        return this.size == length && this.modified == time;
+    }
+}
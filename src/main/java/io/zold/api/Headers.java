@@ -0,0 +1,97 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Headers of wallet files, cached.
+ *
+ * <p>Only the first lines of a file are read, never the ledger. The
+ * header is read again when the size or the modification time of the
+ * file is not the same anymore. Only the headers used most recently are
+ * kept, so iterating a large store doesn't keep the key of every wallet
+ * in memory.
+ *
+ * @since 1.0
+ */
+final class Headers {
+
+    /**
+     * Lines in a header.
+     */
+    private static final int LINES = 4;
+
+    /**
+     * Headers kept, by default.
+     */
+    private static final int CAPACITY = 4096;
+
+    /**
+     * Headers read so far, by file.
+     */
+    private final Map<Path, Header> cache;
+
+    /**
+     * Ctor.
+     */
+    Headers() {
+        this(Headers.CAPACITY);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity How many headers to keep
+     */
+    Headers(final int capacity) {
+        this(Collections.synchronizedMap(new Recent<>(capacity)));
+    }
+
+    /**
+     * Ctor.
+     * @param cache Headers read so far, by file
+     */
+    private Headers(final Map<Path, Header> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Header of a wallet file.
+     * @param path The file
+     * @return Its header
+     * @throws IOException If fails
+     */
+    Header header(final Path path) throws IOException {
+        final long size = Files.size(path);
+        final long modified = Files.getLastModifiedTime(path).toMillis();
+        Header header = this.cache.get(path);
+        if (header == null || !header.fresh(size, modified)) {
+            final List<String> lines = new ListOf<>(
+                new Lines(path, Headers.LINES)
+            );
+            if (lines.size() < Headers.LINES) {
+                throw new IOException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "Wallet %s has %d header lines, while %d expected",
+                            path, lines.size(), Headers.LINES
+                        )
+                    ).asString()
+                );
+            }
+            header = new Header(lines, size, modified);
+            this.cache.put(path, header);
+        }
+        return header;
+    }
+}
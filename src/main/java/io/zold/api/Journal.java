@@ -0,0 +1,495 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Appender of lines to a wallet file, with group commit.
+ *
+ * <p>The file stays open while lines keep coming, and is closed once
+ * there is nothing more to write. Lines appended concurrently
+ * are collected into a batch while the previous batch is being written,
+ * and the whole batch is then written and forced to disk at once, so a
+ * burst of payments costs a few writes instead of one open, write and
+ * close for each. Every {@link #append(CharSequence)} returns only once
+ * its line is written as durably as asked.
+ *
+ * <p>A batch is written holding the {@link Stripes} lock of the file,
+ * which keeps out other journals of the same file in this process, and
+ * an exclusive {@link FileLock}, which keeps out other processes. Readers
+ * take no lock: they read the file up to {@link #end()}, which never
+ * includes a batch being written.
+ *
+ * <p>A line may take the next payment id, see {@link Journal.Line}. Ids
+ * are given while the batch is written, holding both locks, after the
+ * payments written since the last batch, by this journal or by anyone
+ * else, are counted, so no two payments of a file get the same id.
+ *
+ * @since 1.0
+ */
+final class Journal implements Closeable {
+
+    /**
+     * Locks of wallet files, shared by all journals of this process.
+     */
+    private static final Stripes STRIPES = new Stripes();
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * How durable a written line is, the strongest asked so far.
+     */
+    private final AtomicReference<Durability> durability;
+
+    /**
+     * Lock of the batch being collected.
+     */
+    private final Object collecting;
+
+    /**
+     * Lock of the file, held by the thread writing a batch.
+     */
+    private final Object writing;
+
+    /**
+     * Writes started and finished, odd while a batch is being written.
+     */
+    private final AtomicLong version;
+
+    /**
+     * Where the batch being written starts.
+     */
+    private volatile long start;
+
+    /**
+     * Ids of payments, given while a batch is written.
+     */
+    private final Journal.Ids ids;
+
+    /**
+     * Batch being collected.
+     */
+    private Journal.Batch batch;
+
+    /**
+     * The file, open for appending, once it's open.
+     */
+    private FileChannel channel;
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param durability How durable a written line is
+     */
+    Journal(final Path path, final Durability durability) {
+        this.path = path;
+        this.durability = new AtomicReference<>(durability);
+        this.collecting = new Object();
+        this.writing = new Object();
+        this.version = new AtomicLong();
+        this.ids = new Journal.Ids(path);
+        this.batch = new Journal.Batch();
+    }
+
+    /**
+     * Append a line and wait until it's written.
+     * @param line The line, without line break
+     * @throws IOException If the line can't be written
+     */
+    void append(final CharSequence line) throws IOException {
+        this.append(ids -> line);
+    }
+
+    /**
+     * Append a line, which may take the next payment id, and wait until
+     * it's written.
+     * @param line The line, without line break
+     * @throws IOException If the line can't be written
+     */
+    void append(final Journal.Line line) throws IOException {
+        final Journal.Batch mine;
+        synchronized (this.collecting) {
+            mine = this.batch;
+            mine.add(line);
+        }
+        synchronized (this.writing) {
+            if (!mine.committed()) {
+                final Journal.Batch full;
+                synchronized (this.collecting) {
+                    full = this.batch;
+                    this.batch = new Journal.Batch();
+                }
+                full.take();
+                try {
+                    this.write(full);
+                } catch (final IOException ex) {
+                    full.fail(ex);
+                // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final RuntimeException | Error ex) {
+                    full.fail(new IOException("Can't write the batch", ex));
+                    throw ex;
+                } finally {
+                    this.release();
+                }
+            }
+        }
+        mine.check();
+    }
+
+    /**
+     * Make lines written from now on at least as durable as asked.
+     * @param asked How durable they must be
+     */
+    void atLeast(final Durability asked) {
+        this.durability.accumulateAndGet(
+            asked,
+            (current, other) -> {
+                Durability max = current;
+                if (other.compareTo(current) > 0) {
+                    max = other;
+                }
+                return max;
+            }
+        );
+    }
+
+    /**
+     * Where the lines written so far end, without waiting for a batch
+     * being written. Lines appended by other processes are seen as soon
+     * as they reach the file.
+     * @return Offset in the file
+     * @throws IOException If the file can't be read
+     */
+    long end() throws IOException {
+        long end = -1L;
+        while (end < 0L) {
+            final long before = this.version.get();
+            if (before % 2L == 1L) {
+                end = this.start;
+            } else {
+                final long size = Files.size(this.path);
+                if (this.version.get() == before) {
+                    end = size;
+                }
+            }
+        }
+        return end;
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this.writing) {
+            if (this.channel != null) {
+                this.channel.close();
+                this.channel = null;
+            }
+        }
+    }
+
+    /**
+     * Close the file if no lines are waiting to be written.
+     * @throws IOException If it can't be closed
+     */
+    private void release() throws IOException {
+        final boolean idle;
+        synchronized (this.collecting) {
+            idle = this.batch.empty();
+        }
+        if (idle) {
+            this.close();
+        }
+    }
+
+    /**
+     * Write a batch at the end of the file, holding both locks.
+     * @param full The batch
+     * @throws IOException If the batch can't be written
+     */
+    private void write(final Journal.Batch full) throws IOException {
+        final FileChannel chnl = this.channel();
+        final Lock stripe = Journal.STRIPES.lock(this.path);
+        stripe.lock();
+        try {
+            final FileLock lock = chnl.lock();
+            final long size = chnl.size();
+            this.start = size;
+            this.version.incrementAndGet();
+            try {
+                this.ids.upto(size);
+                final ByteBuffer bytes = full.bytes(this.ids);
+                chnl.position(size);
+                if (size > 0L) {
+                    final ByteBuffer last = ByteBuffer.allocate(1);
+                    chnl.read(last, size - 1L);
+                    if (last.get(0) != '\n') {
+                        chnl.write(ByteBuffer.wrap(new byte[] {'\n'}));
+                    }
+                }
+                while (bytes.hasRemaining()) {
+                    chnl.write(bytes);
+                }
+                this.durability.get().force(chnl);
+            } finally {
+                this.version.incrementAndGet();
+                lock.release();
+            }
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * The file, open for writing.
+     * @return Channel
+     * @throws IOException If the file can't be opened
+     */
+    private FileChannel channel() throws IOException {
+        if (this.channel == null || !this.channel.isOpen()) {
+            this.channel = FileChannel.open(
+                this.path, StandardOpenOption.WRITE, StandardOpenOption.READ
+            );
+        }
+        return this.channel;
+    }
+
+    /**
+     * Lines written together.
+     * @since 1.0
+     */
+    private static final class Batch {
+
+        /**
+         * The lines.
+         */
+        private final List<Journal.Line> lines;
+
+        /**
+         * Whether the batch was taken to be written.
+         */
+        private boolean done;
+
+        /**
+         * Why writing failed, if it did.
+         */
+        private IOException error;
+
+        /**
+         * Ctor.
+         */
+        Batch() {
+            this.lines = new ArrayList<>(1);
+        }
+
+        /**
+         * Add a line.
+         * @param line The line
+         */
+        void add(final Journal.Line line) {
+            this.lines.add(line);
+        }
+
+        /**
+         * Whether the batch has no lines.
+         * @return TRUE if it has none
+         */
+        boolean empty() {
+            return this.lines.isEmpty();
+        }
+
+        /**
+         * Whether the batch was taken to be written.
+         * @return TRUE if it was
+         */
+        synchronized boolean committed() {
+            return this.done;
+        }
+
+        /**
+         * Take the batch to be written. From now on it's up to the writer
+         * to write it or to fail it.
+         */
+        synchronized void take() {
+            this.done = true;
+        }
+
+        /**
+         * Lines of the batch.
+         * @param ids Ids of payments
+         * @return All lines, each followed by a line break
+         * @throws IOException If ids can't be given
+         */
+        synchronized ByteBuffer bytes(final Journal.Ids ids)
+            throws IOException {
+            final StringBuilder text = new StringBuilder(
+                // @checkstyle MagicNumberCheck (1 line)
+                this.lines.size() * 1024
+            );
+            for (final Journal.Line line : this.lines) {
+                text.append(line.text(ids)).append('\n');
+            }
+            return ByteBuffer.wrap(
+                text.toString().getBytes(StandardCharsets.UTF_8)
+            );
+        }
+
+        /**
+         * Fail the batch.
+         * @param cause Why it failed
+         */
+        synchronized void fail(final IOException cause) {
+            this.error = cause;
+        }
+
+        /**
+         * Fail if the batch wasn't written.
+         * @throws IOException If it wasn't
+         */
+        synchronized void check() throws IOException {
+            if (this.error != null) {
+                throw new IOException("Can't append to the wallet", this.error);
+            }
+        }
+    }
+
+    /**
+     * Line to append, made once it's known where it goes.
+     * @since 1.0
+     */
+    interface Line {
+
+        /**
+         * Text of the line.
+         * @param ids Ids of payments, to take the next one
+         * @return The line, without line break
+         * @throws IOException If the line can't be made
+         */
+        CharSequence text(Journal.Ids ids) throws IOException;
+    }
+
+    /**
+     * Ids of payments in a file, counted from the file.
+     *
+     * <p>Only the lines written since the last count are read, and only
+     * when an id is asked for. If the file got shorter, or its
+     * {@link Stamp} up to the counted lines differs, it was replaced, and
+     * all of it is read again.
+     *
+     * @since 1.0
+     */
+    static final class Ids implements Tail.Visitor {
+
+        /**
+         * The file.
+         */
+        private final Path path;
+
+        /**
+         * Stamp of the file.
+         */
+        private final Stamp stamp;
+
+        /**
+         * Where the counted lines end.
+         */
+        private long counted;
+
+        /**
+         * Stamp of the file up to the counted lines.
+         */
+        private long stamped;
+
+        /**
+         * Where the lines written so far end.
+         */
+        private long end;
+
+        /**
+         * The last id given or found.
+         */
+        private int last;
+
+        /**
+         * Ctor.
+         * @param path The file
+         */
+        Ids(final Path path) {
+            this.path = path;
+            this.stamp = new Stamp(path);
+        }
+
+        /**
+         * Next payment id.
+         * @return The id
+         * @throws IOException If the file can't be read, or all ids are
+         *  taken
+         */
+        int next() throws IOException {
+            if (this.counted < this.end) {
+                this.counted = new Tail(this.path).read(
+                    this.counted, this.end, this
+                );
+                this.stamped = this.stamp.value(this.counted);
+            }
+            this.last += 1;
+            // @checkstyle MagicNumberCheck (1 line)
+            if (this.last > 0xffff) {
+                throw new IOException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "All transaction ids of wallet %s are taken",
+                            this.path
+                        )
+                    ).asString()
+                );
+            }
+            return this.last;
+        }
+
+        @Override
+        public void visit(final long start, final String line,
+            final boolean whole) throws IOException {
+            // @checkstyle MagicNumberCheck (1 line)
+            if (new Field(line, 2).hex() < 0L) {
+                this.last = Math.max(
+                    this.last, (int) new Field(line, 0).hex()
+                );
+            }
+        }
+
+        /**
+         * Count lines up to where the file ends now.
+         * @param size Where the lines written so far end
+         * @throws IOException If the file can't be read
+         */
+        private void upto(final long size) throws IOException {
+            if (size < this.counted
+                || this.counted > 0L
+                && this.stamp.value(this.counted) != this.stamped) {
+                this.counted = 0L;
+                this.last = 0;
+            }
+            this.end = size;
+        }
+    }
+}
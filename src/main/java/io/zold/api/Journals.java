@@ -0,0 +1,76 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Journals of wallet files, one per file in this process, so that
+ * payments made through different wallet objects of the same file are
+ * committed together, whichever journals they were made with.
+ *
+ * <p>A journal written with more than one durability writes as durably
+ * as the strongest of them.
+ *
+ * @since 1.0
+ */
+final class Journals implements Closeable {
+
+    /**
+     * Journals opened so far in this process, by file.
+     */
+    private static final ConcurrentMap<Path, Journal> ALL =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * How durable a payment is.
+     */
+    private final Durability durability;
+
+    /**
+     * Ctor.
+     */
+    Journals() {
+        this(Durability.DATA);
+    }
+
+    /**
+     * Ctor.
+     * @param durability How durable a payment is
+     */
+    Journals(final Durability durability) {
+        this.durability = durability;
+    }
+
+    /**
+     * Journal of a wallet file.
+     * @param path The file
+     * @return Its journal
+     */
+    Journal journal(final Path path) {
+        final Journal journal = Journals.ALL.computeIfAbsent(
+            path.toAbsolutePath().normalize(),
+            file -> new Journal(file, this.durability)
+        );
+        journal.atLeast(this.durability);
+        return journal;
+    }
+
+    /**
+     * Close the files of all journals. They are opened again by the
+     * next payment.
+     * @throws IOException If a file can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        for (final Journal journal : Journals.ALL.values()) {
+            journal.close();
+        }
+    }
+}
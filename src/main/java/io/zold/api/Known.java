@@ -0,0 +1,153 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.cactoos.scalar.IoChecked;
+import org.cactoos.scalar.Sticky;
+
+/**
+ * Transactions a ledger already knows about, indexed for merging.
+ *
+ * <p>An incoming transaction is known when the ledger has the same
+ * transaction, a transaction with the same id and beneficiary, a
+ * transaction with the same prefix, or any transaction with the same
+ * id while the incoming one is negative. The ledger is scanned once,
+ * on the first check, and every check after that is a few hash lookups.
+ * Beneficiaries are read only of transactions with the same id, and
+ * prefixes only when a transaction is not known by the rest, the way
+ * comparing transactions one by one would read them.
+ *
+ * @since 1.0
+ */
+final class Known {
+
+    /**
+     * The index.
+     */
+    private final IoChecked<Known.Index> index;
+
+    /**
+     * Ctor.
+     * @param ledger The ledger
+     */
+    Known(final Iterable<Transaction> ledger) {
+        this.index = new IoChecked<>(
+            new Sticky<>(() -> Known.Index.of(ledger))
+        );
+    }
+
+    /**
+     * Whether the ledger knows about this transaction already.
+     * @param incoming Incoming transaction
+     * @return TRUE if it is known
+     * @throws IOException If a transaction is broken
+     */
+    boolean contains(final Transaction incoming) throws IOException {
+        return this.index.value().contains(incoming);
+    }
+
+    /**
+     * Hash indexes of a ledger.
+     * @since 1.0
+     */
+    private static final class Index {
+
+        /**
+         * Transactions.
+         */
+        private final Set<Transaction> all;
+
+        /**
+         * Transactions, by id.
+         */
+        private final Map<Integer, List<Transaction>> ids;
+
+        /**
+         * Prefixes, read on first need.
+         */
+        private final IoChecked<Set<String>> prefixes;
+
+        /**
+         * Ctor.
+         * @param all Transactions
+         * @param ids Transactions, by id
+         */
+        Index(final Set<Transaction> all,
+            final Map<Integer, List<Transaction>> ids) {
+            this.all = all;
+            this.ids = ids;
+            this.prefixes = new IoChecked<>(
+                new Sticky<>(() -> Known.Index.prefixes(all))
+            );
+        }
+
+        /**
+         * Whether the transaction is known.
+         * @param incoming Incoming transaction
+         * @return TRUE if it is known
+         * @throws IOException If the transaction is broken
+         */
+        boolean contains(final Transaction incoming) throws IOException {
+            boolean found = this.all.contains(incoming);
+            if (!found) {
+                final List<Transaction> same = this.ids.getOrDefault(
+                    incoming.id(), Collections.emptyList()
+                );
+                for (final Transaction origin : same) {
+                    if (incoming.bnf().equals(origin.bnf())
+                        || incoming.amount() < 0L) {
+                        found = true;
+                        break;
+                    }
+                }
+            }
+            return found
+                || this.prefixes.value().contains(incoming.prefix());
+        }
+
+        /**
+         * Index a ledger.
+         * @param ledger The ledger
+         * @return The index
+         * @throws IOException If a transaction is broken
+         */
+        static Known.Index of(final Iterable<Transaction> ledger)
+            throws IOException {
+            final Known.Index index = new Known.Index(
+                new HashSet<>(0), new HashMap<>(0)
+            );
+            for (final Transaction txn : ledger) {
+                index.all.add(txn);
+                index.ids.computeIfAbsent(
+                    txn.id(), id -> new ArrayList<>(1)
+                ).add(txn);
+            }
+            return index;
+        }
+
+        /**
+         * Prefixes of transactions.
+         * @param all Transactions
+         * @return Prefixes
+         * @throws IOException If a transaction is broken
+         */
+        private static Set<String> prefixes(final Set<Transaction> all)
+            throws IOException {
+            final Set<String> prefixes = new HashSet<>(all.size());
+            for (final Transaction txn : all) {
+                prefixes.add(txn.prefix());
+            }
+            return prefixes;
+        }
+    }
+}
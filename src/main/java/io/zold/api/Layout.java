@@ -0,0 +1,233 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.IoChecked;
+import org.cactoos.scalar.Sticky;
+
+/**
+ * How wallet files are laid out in a directory.
+ *
+ * <p>A layout may keep an index of the directory, with resources of the
+ * operating system behind it, until it's closed.
+ *
+ * @since 1.0
+ */
+public interface Layout extends Closeable {
+
+    /**
+     * Where the file of the wallet is, or would be.
+     * @param id Wallet id
+     * @return Path of the file
+     * @throws IOException If the directory is not available
+     */
+    Path path(long id) throws IOException;
+
+    /**
+     * File of the wallet, if there is one.
+     * @param id Wallet id
+     * @return Path of the file
+     * @throws IOException If the directory can't be read
+     */
+    Optional<Path> find(long id) throws IOException;
+
+    /**
+     * All wallet files, listed now.
+     * @return Paths of the files
+     * @throws IOException If the directory can't be read
+     */
+    List<Path> files() throws IOException;
+
+    /**
+     * All wallet files right in the directory, found through a
+     * {@link Catalog}.
+     * @since 1.0
+     */
+    final class Flat implements Layout {
+
+        /**
+         * The directory.
+         */
+        private final IoChecked<Path> dir;
+
+        /**
+         * Wallets file extension.
+         */
+        private final String ext;
+
+        /**
+         * Wallet files, indexed by id.
+         */
+        private final Catalog catalog;
+
+        /**
+         * Ctor.
+         * @param dir The directory
+         */
+        public Flat(final Path dir) {
+            this(() -> dir, "z");
+        }
+
+        /**
+         * Ctor.
+         * @param dir The directory
+         * @param ext Wallets file extension
+         */
+        public Flat(final Scalar<Path> dir, final String ext) {
+            this(new IoChecked<>(new Sticky<>(dir)), ext);
+        }
+
+        /**
+         * Ctor.
+         * @param dir The directory
+         * @param ext Wallets file extension
+         */
+        private Flat(final IoChecked<Path> dir, final String ext) {
+            this.dir = dir;
+            this.ext = ext;
+            this.catalog = new Catalog(dir, ext);
+        }
+
+        @Override
+        public Path path(final long id) throws IOException {
+            return this.dir.value().resolve(
+                String.format("%s.%s", Long.toHexString(id), this.ext)
+            );
+        }
+
+        @Override
+        public Optional<Path> find(final long id) throws IOException {
+            return this.catalog.find(id);
+        }
+
+        @Override
+        public List<Path> files() throws IOException {
+            return this.catalog.files();
+        }
+
+        @Override
+        public void close() throws IOException {
+            this.catalog.close();
+        }
+    }
+
+    /**
+     * Wallet files in two levels of subdirectories, named after the first
+     * two and the next two hex digits of the wallet id, like
+     * {@code 01/23/123456789abcdef.z}. No directory grows beyond a few
+     * hundred entries, and a wallet is found without any index.
+     * @since 1.0
+     */
+    final class Sharded implements Layout {
+
+        /**
+         * Glob of shard directories.
+         */
+        private static final String SHARD = "[0-9a-f][0-9a-f]";
+
+        /**
+         * The directory.
+         */
+        private final IoChecked<Path> dir;
+
+        /**
+         * Wallets file extension.
+         */
+        private final String ext;
+
+        /**
+         * Ctor.
+         * @param dir The directory
+         */
+        public Sharded(final Path dir) {
+            this(() -> dir, "z");
+        }
+
+        /**
+         * Ctor.
+         * @param dir The directory
+         * @param ext Wallets file extension
+         */
+        public Sharded(final Scalar<Path> dir, final String ext) {
+            this.dir = new IoChecked<>(new Sticky<>(dir));
+            this.ext = ext;
+        }
+
+        @Override
+        public Path path(final long id) throws IOException {
+            final String hex = String.format("%016x", id);
+            return this.dir.value()
+                // @checkstyle MagicNumberCheck (2 lines)
+                .resolve(hex.substring(0, 2))
+                .resolve(hex.substring(2, 4))
+                .resolve(
+                    String.format("%s.%s", Long.toHexString(id), this.ext)
+                );
+        }
+
+        @Override
+        public Optional<Path> find(final long id) throws IOException {
+            return Optional.of(this.path(id)).filter(Files::isRegularFile);
+        }
+
+        @Override
+        public List<Path> files() throws IOException {
+            final List<Path> files = new ArrayList<>(0);
+            for (final Path top : Sharded.shards(this.dir.value())) {
+                for (final Path shard : Sharded.shards(top)) {
+                    files.addAll(
+                        Sharded.list(shard, String.format("*.%s", this.ext))
+                    );
+                }
+            }
+            return files;
+        }
+
+        @Override
+        public void close() {
+            // nothing to close, there is no index
+        }
+
+        /**
+         * Shard directories in a directory.
+         * @param dir The directory
+         * @return Paths of the shards
+         * @throws IOException If the directory can't be read
+         */
+        private static List<Path> shards(final Path dir) throws IOException {
+            final List<Path> shards = Sharded.list(dir, Sharded.SHARD);
+            shards.removeIf(shard -> !Files.isDirectory(shard));
+            return shards;
+        }
+
+        /**
+         * Entries of a directory.
+         * @param dir The directory
+         * @param glob Glob of names to list
+         * @return Paths of the entries
+         * @throws IOException If the directory can't be read
+         */
+        private static List<Path> list(final Path dir, final String glob)
+            throws IOException {
+            final List<Path> entries = new ArrayList<>(0);
+            try (DirectoryStream<Path> stream =
+                Files.newDirectoryStream(dir, glob)) {
+                for (final Path entry : stream) {
+                    entries.add(entry);
+                }
+            }
+            return entries;
+        }
+    }
+}
@@ -0,0 +1,359 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.IoChecked;
+
+/**
+ * Lines of a file, read one by one.
+ *
+ * <p>The file is read in chunks, and it's open only while a chunk is
+ * read, so an iteration never holds the file open between lines, and one
+ * that stops early leaves nothing open behind and reads only the chunks
+ * with the lines it used. Only the current chunk is kept in memory; the
+ * chunks grow as the iteration goes on, so a short iteration, like one
+ * limited to a few lines, reads little. When the file is limited by an
+ * offset, like {@link Journal#end()}, bytes beyond it are not read, and
+ * neither are bytes written after the iteration started, so an iteration
+ * sees the file as it was when it started. Such a file may be written
+ * by another process at the same time, so a last line without a line
+ * break is not read: it may be only half written.
+ *
+ * @since 1.0
+ */
+final class Lines implements Iterable<String> {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * How many lines to read at most.
+     */
+    private final int limit;
+
+    /**
+     * Where to start reading the file.
+     */
+    private final IoChecked<Long> from;
+
+    /**
+     * Where to stop reading the file.
+     */
+    private final IoChecked<Long> end;
+
+    /**
+     * Whether to read a last line without a line break.
+     */
+    private final boolean partial;
+
+    /**
+     * Ctor.
+     * @param path The file
+     */
+    Lines(final Path path) {
+        this(path, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param limit How many lines to read at most
+     */
+    Lines(final Path path, final int limit) {
+        this(path, limit, () -> 0L, () -> Long.MAX_VALUE, true);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param end Where to stop reading the file, asked on every iteration
+     */
+    Lines(final Path path, final Scalar<Long> end) {
+        this(path, Integer.MAX_VALUE, end);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param limit How many lines to read at most
+     * @param end Where to stop reading the file, asked on every iteration
+     */
+    Lines(final Path path, final int limit, final Scalar<Long> end) {
+        this(path, limit, () -> 0L, end);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param from Where to start reading the file, at the start of a line
+     * @param end Where to stop reading the file
+     */
+    Lines(final Path path, final Scalar<Long> from, final Scalar<Long> end) {
+        this(path, Integer.MAX_VALUE, from, end);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param limit How many lines to read at most
+     * @param from Where to start reading the file, at the start of a line
+     * @param end Where to stop reading the file
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    Lines(final Path path, final int limit, final Scalar<Long> from,
+        final Scalar<Long> end) {
+        this(path, limit, from, end, false);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param limit How many lines to read at most
+     * @param from Where to start reading the file, at the start of a line
+     * @param end Where to stop reading the file
+     * @param partial Whether to read a last line without a line break
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private Lines(final Path path, final int limit, final Scalar<Long> from,
+        final Scalar<Long> end, final boolean partial) {
+        this.path = path;
+        this.limit = limit;
+        this.from = new IoChecked<>(from);
+        this.end = new IoChecked<>(end);
+        this.partial = partial;
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        try {
+            return new Lines.Reading(
+                this.path,
+                this.from.value(),
+                Math.min(this.end.value(), Files.size(this.path)),
+                this.limit,
+                this.partial
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Iterator over the lines of a file, read chunk by chunk.
+     * @since 1.0
+     */
+    private static final class Reading implements Iterator<String> {
+
+        /**
+         * Bytes in the first chunk.
+         */
+        private static final int FIRST = 8 * 1024;
+
+        /**
+         * Bytes in the largest chunk.
+         */
+        private static final int LARGEST = 1024 * 1024;
+
+        /**
+         * The file.
+         */
+        private final Path path;
+
+        /**
+         * Where the next chunk starts in the file.
+         */
+        private long pos;
+
+        /**
+         * Where to stop reading the file.
+         */
+        private long end;
+
+        /**
+         * How many lines are left to read.
+         */
+        private int left;
+
+        /**
+         * Whether to read a last line without a line break.
+         */
+        private final boolean partial;
+
+        /**
+         * Bytes read and not yet split into lines, ready to be read.
+         */
+        private ByteBuffer chunk;
+
+        /**
+         * Where to look for the next line break in the chunk.
+         */
+        private int scanned;
+
+        /**
+         * Line read ahead, if any.
+         */
+        private String line;
+
+        /**
+         * Ctor.
+         * @param path The file
+         * @param from Where to start reading the file
+         * @param end Where to stop reading the file
+         * @param limit How many lines to read at most
+         * @param partial Whether to read a last line without a line break
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Reading(final Path path, final long from, final long end,
+            final int limit, final boolean partial) {
+            this.path = path;
+            this.pos = from;
+            this.end = end;
+            this.left = limit;
+            this.partial = partial;
+            this.chunk = ByteBuffer.allocate(0);
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.line == null && this.left > 0) {
+                try {
+                    this.line = this.read();
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                if (this.line != null) {
+                    this.left -= 1;
+                }
+            }
+            return this.line != null;
+        }
+
+        @Override
+        public String next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("No more lines");
+            }
+            final String next = this.line;
+            this.line = null;
+            return next;
+        }
+
+        /**
+         * Read the next line.
+         * @return The line, or NULL if there are no more lines
+         * @throws IOException If the file can't be read
+         */
+        private String read() throws IOException {
+            int eol = this.newline();
+            while (eol < 0 && this.pos < this.end) {
+                this.fill();
+                eol = this.newline();
+            }
+            String found = null;
+            if (eol >= 0) {
+                found = this.text(eol);
+                this.chunk.position(eol + 1);
+            } else if (this.partial && this.chunk.hasRemaining()) {
+                found = this.text(this.chunk.limit());
+                this.chunk.position(this.chunk.limit());
+            }
+            this.scanned = this.chunk.position();
+            return found;
+        }
+
+        /**
+         * Position of the next line break in the chunk.
+         * @return Position, negative if there is none
+         */
+        private int newline() {
+            int eol = -1;
+            final byte[] bytes = this.chunk.array();
+            for (int idx = Math.max(this.scanned, this.chunk.position());
+                idx < this.chunk.limit(); ++idx) {
+                if (bytes[idx] == '\n') {
+                    eol = idx;
+                    break;
+                }
+            }
+            if (eol < 0) {
+                this.scanned = this.chunk.limit();
+            }
+            return eol;
+        }
+
+        /**
+         * Text of the line from the start of the chunk, without a
+         * carriage return before the line break.
+         * @param upto Where the line ends in the chunk
+         * @return The line
+         */
+        private String text(final int upto) {
+            final int start = this.chunk.position();
+            int stop = upto;
+            if (stop > start && this.chunk.get(stop - 1) == '\r') {
+                stop -= 1;
+            }
+            return new String(
+                this.chunk.array(), start, stop - start, StandardCharsets.UTF_8
+            );
+        }
+
+        /**
+         * Read the next chunk of the file, after the bytes not split yet,
+         * opening the file only for that.
+         * @throws IOException If the file can't be read
+         */
+        private void fill() throws IOException {
+            final int offset = this.chunk.position();
+            final int rest = this.chunk.remaining();
+            final int size = (int) Math.min(
+                Math.max(
+                    rest * 2L,
+                    Math.min(
+                        Math.max(this.chunk.capacity() * 2L, Reading.FIRST),
+                        Reading.LARGEST
+                    )
+                ),
+                rest + this.end - this.pos
+            );
+            final ByteBuffer next;
+            if (size > this.chunk.capacity()) {
+                next = ByteBuffer.allocate(size);
+                next.put(this.chunk);
+            } else {
+                next = this.chunk.compact();
+            }
+            this.scanned -= offset;
+            next.limit(size);
+            try (FileChannel channel = FileChannel.open(
+                this.path, StandardOpenOption.READ
+            )) {
+                while (next.hasRemaining()) {
+                    final int read = channel.read(next, this.pos);
+                    if (read < 0) {
+                        this.end = this.pos;
+                        break;
+                    }
+                    this.pos += read;
+                }
+            }
+            next.flip();
+            this.chunk = next;
+        }
+    }
+}
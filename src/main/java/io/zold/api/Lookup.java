@@ -0,0 +1,81 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Transactions of a ledger found by id or time, with a full scan.
+ *
+ * <p>This is how wallets without an index, see {@link Offsets}, find
+ * their transactions.
+ *
+ * @since 1.0
+ */
+final class Lookup {
+
+    /**
+     * The wallet id.
+     */
+    private final long wallet;
+
+    /**
+     * The ledger.
+     */
+    private final Iterable<Transaction> ledger;
+
+    /**
+     * Ctor.
+     * @param wallet The wallet id
+     * @param ledger The ledger
+     */
+    Lookup(final long wallet, final Iterable<Transaction> ledger) {
+        this.wallet = wallet;
+        this.ledger = ledger;
+    }
+
+    /**
+     * The first transaction with the id.
+     * @param id Transaction id
+     * @return Transaction
+     * @throws IOException If there is no such transaction
+     */
+    Transaction transaction(final int id) throws IOException {
+        Transaction found = null;
+        for (final Transaction txn : this.ledger) {
+            if (txn.id() == id) {
+                found = txn;
+                break;
+            }
+        }
+        if (found == null) {
+            throw new IOException(
+                new UncheckedText(
+                    new FormattedText(
+                        "Transaction %d not found in wallet %016x",
+                        id, this.wallet
+                    )
+                ).asString()
+            );
+        }
+        return found;
+    }
+
+    /**
+     * Transactions not older than the time.
+     * @param time The time
+     * @return Transactions, in the order of the ledger
+     */
+    Iterable<Transaction> since(final ZonedDateTime time) {
+        return new Filtered<>(
+            txn -> !txn.time().isBefore(time),
+            this.ledger
+        );
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.cactoos.Scalar;
+import org.cactoos.scalar.IoChecked;
+
+/**
+ * Lines of a memory mapped file.
+ *
+ * <p>Every iteration maps the file as it is at that moment and returns
+ * lines as {@link Chars} views over the mapping, nothing is decoded.
+ * The pages are shared with the page cache, so other processes reading
+ * the same file do not need another copy. Lines end the way
+ * {@link java.io.BufferedReader#readLine()} ends them. When the file is
+ * limited by an offset, like {@link Journal#end()}, only the bytes before
+ * it are mapped, and a last line without a line feed is not read, since
+ * another process may still be writing it.
+ *
+ * @since 1.0
+ */
+final class MappedLines implements Iterable<CharSequence> {
+
+    /**
+     * The file.
+     */
+    private final Path path;
+
+    /**
+     * Where to stop reading the file.
+     */
+    private final IoChecked<Long> end;
+
+    /**
+     * Whether to read a last line without a line feed.
+     */
+    private final boolean partial;
+
+    /**
+     * Ctor.
+     * @param path The file
+     */
+    MappedLines(final Path path) {
+        this(path, () -> Long.MAX_VALUE, true);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param end Where to stop reading the file, asked on every iteration
+     */
+    MappedLines(final Path path, final Scalar<Long> end) {
+        this(path, end, false);
+    }
+
+    /**
+     * Ctor.
+     * @param path The file
+     * @param end Where to stop reading the file, asked on every iteration
+     * @param partial Whether to read a last line without a line feed
+     */
+    private MappedLines(final Path path, final Scalar<Long> end,
+        final boolean partial) {
+        this.path = path;
+        this.end = new IoChecked<>(end);
+        this.partial = partial;
+    }
+
+    @Override
+    public Iterator<CharSequence> iterator() {
+        try (FileChannel channel = FileChannel.open(
+            this.path, StandardOpenOption.READ
+        )) {
+            final long size = Math.min(channel.size(), this.end.value());
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(
+                    String.format(
+                        "File %s is too big to be mapped: %d bytes",
+                        this.path, size
+                    )
+                );
+            }
+            final MappedByteBuffer buffer = channel.map(
+                FileChannel.MapMode.READ_ONLY, 0L, size
+            );
+            if (!this.partial) {
+                buffer.limit(MappedLines.whole(buffer));
+            }
+            return new MappedLines.Scan(buffer);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * Where the last line with a line feed ends in the buffer.
+     * @param buffer The buffer
+     * @return Position after the line feed, zero if there is none
+     */
+    private static int whole(final ByteBuffer buffer) {
+        int end = buffer.limit();
+        while (end > 0 && buffer.get(end - 1) != '\n') {
+            end -= 1;
+        }
+        return end;
+    }
+
+    /**
+     * Iterator over the lines of a buffer.
+     * @since 1.0
+     */
+    private static final class Scan implements Iterator<CharSequence> {
+
+        /**
+         * The buffer.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Where the next line starts.
+         */
+        private int pos;
+
+        /**
+         * Ctor.
+         * @param buffer The buffer
+         */
+        Scan(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.pos < this.buffer.limit();
+        }
+
+        @Override
+        public CharSequence next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("No more lines");
+            }
+            final int start = this.pos;
+            final int limit = this.buffer.limit();
+            int end = start;
+            while (end < limit && !MappedLines.Scan.eol(this.buffer.get(end))) {
+                end += 1;
+            }
+            this.pos = end + 1;
+            if (end < limit && this.buffer.get(end) == '\r'
+                && this.pos < limit && this.buffer.get(this.pos) == '\n') {
+                this.pos += 1;
+            }
+            return new Chars(this.buffer, start, end);
+        }
+
+        /**
+         * Whether the byte ends a line.
+         * @param chr The byte
+         * @return TRUE if it is a line feed or a carriage return
+         */
+        private static boolean eol(final byte chr) {
+            return chr == '\n' || chr == '\r';
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.util.Iterator;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.iterable.Joined;
+
+/**
+ * Two ledgers merged: all of ours, then those of theirs we don't know.
+ *
+ * <p>Ours is indexed by {@link Known} once per iteration, and theirs is
+ * read in a single pass, so merging costs time linear in the size of
+ * both ledgers.
+ *
+ * @since 1.0
+ */
+final class Merged implements Iterable<Transaction> {
+
+    /**
+     * Our ledger.
+     */
+    private final Iterable<Transaction> ours;
+
+    /**
+     * Their ledger.
+     */
+    private final Iterable<Transaction> theirs;
+
+    /**
+     * Ctor.
+     * @param ours Our ledger
+     * @param theirs Their ledger
+     */
+    Merged(final Iterable<Transaction> ours,
+        final Iterable<Transaction> theirs) {
+        this.ours = ours;
+        this.theirs = theirs;
+    }
+
+    @Override
+    public Iterator<Transaction> iterator() {
+        final Known known = new Known(this.ours);
+        return new Joined<Transaction>(
+            this.ours,
+            new Filtered<>(
+                incoming -> !known.contains(incoming),
+                this.theirs
+            )
+        ).iterator();
+    }
+}
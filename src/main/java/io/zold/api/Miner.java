@@ -0,0 +1,500 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import org.cactoos.Text;
+import org.cactoos.text.TextOf;
+
+/**
+ * Miner of scores, on all cores.
+ *
+ * <p>Suffixes are found one by one, as every link of the chain depends
+ * on the previous one, see {@link Proof}. For every link the nonces are
+ * handed out in chunks to one task per core of a fork/join pool, and the
+ * first task to find a nonce good enough stops the others. A task reuses
+ * its digest and buffers, so trying a nonce allocates nothing.
+ *
+ * @since 1.0
+ */
+public final class Miner {
+
+    /**
+     * Nonces a task claims at once.
+     */
+    private static final long CHUNK = 4096L;
+
+    /**
+     * Pool of miners made without one, with a thread per core.
+     */
+    private static final ForkJoinPool POOL = new ForkJoinPool(
+        Runtime.getRuntime().availableProcessors(),
+        pool -> {
+            final ForkJoinWorkerThread thread =
+                ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName(
+                String.format("zold-miner-%d", thread.getPoolIndex())
+            );
+            return thread;
+        },
+        null, false
+    );
+
+    /**
+     * Zeros every link must end with.
+     */
+    private final int strength;
+
+    /**
+     * Where mining runs.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * Ctor.
+     * @param strength How many zeros every link must end with
+     */
+    public Miner(final int strength) {
+        this(strength, Miner.POOL);
+    }
+
+    /**
+     * Ctor.
+     * @param strength How many zeros every link must end with
+     * @param pool Where mining runs
+     */
+    public Miner(final int strength, final ForkJoinPool pool) {
+        this.strength = strength;
+        this.pool = pool;
+    }
+
+    /**
+     * Start mining a score in the background.
+     * @param prefix Time, host, port and invoice of the node
+     * @param length How many suffixes to find
+     * @return The mining going on
+     */
+    public Miner.Run mine(final String prefix, final int length) {
+        final Miner.Effort effort = new Miner.Effort(System.nanoTime());
+        return new Miner.Run(
+            effort,
+            this.pool.submit(
+                new Miner.Chain(
+                    prefix, length, this.strength, this.pool, effort
+                )
+            )
+        );
+    }
+
+    /**
+     * Mining going on.
+     * @since 1.0
+     */
+    public static final class Run {
+
+        /**
+         * Stop flag, hash counter and time of the mining.
+         */
+        private final Miner.Effort effort;
+
+        /**
+         * The mining task.
+         */
+        private final ForkJoinTask<Score> task;
+
+        /**
+         * Ctor.
+         * @param effort Stop flag, hash counter and time of the mining
+         * @param task The mining task
+         */
+        Run(final Miner.Effort effort, final ForkJoinTask<Score> task) {
+            this.effort = effort;
+            this.task = task;
+        }
+
+        /**
+         * The score, waiting for mining to finish. If mining was cancelled,
+         * the score has the suffixes found by then, which are still valid.
+         * @return Score
+         */
+        public Score score() {
+            return this.task.join();
+        }
+
+        /**
+         * Whether mining is over.
+         * @return TRUE if the score is ready
+         */
+        public boolean done() {
+            return this.task.isDone();
+        }
+
+        /**
+         * Stop mining.
+         */
+        public void cancel() {
+            this.effort.stop.set(true);
+        }
+
+        /**
+         * Hashes computed so far.
+         * @return Hashes
+         */
+        public long hashes() {
+            return this.effort.hashes.sum();
+        }
+
+        /**
+         * Hashes per second, on average while mining went on.
+         * @return Hash rate
+         */
+        public double rate() {
+            // @checkstyle MagicNumberCheck (1 line)
+            final double seconds = this.effort.elapsed() / 1e9;
+            return this.effort.hashes.sum() / seconds;
+        }
+    }
+
+    /**
+     * Stop flag, hash counter and time shared by the tasks of one mining.
+     * @since 1.0
+     */
+    private static final class Effort {
+
+        /**
+         * Whether mining was cancelled.
+         */
+        private final AtomicBoolean stop;
+
+        /**
+         * Hashes computed so far.
+         */
+        private final LongAdder hashes;
+
+        /**
+         * When mining started, in nanoseconds.
+         */
+        private final long start;
+
+        /**
+         * How long mining went on, in nanoseconds, negative until it's over.
+         */
+        private final AtomicLong took;
+
+        /**
+         * Ctor.
+         * @param start When mining started, in nanoseconds
+         */
+        Effort(final long start) {
+            this(new AtomicBoolean(), new LongAdder(), start);
+        }
+
+        /**
+         * Ctor.
+         * @param stop Whether mining was cancelled
+         * @param hashes Hashes computed so far
+         * @param start When mining started, in nanoseconds
+         */
+        Effort(final AtomicBoolean stop, final LongAdder hashes,
+            final long start) {
+            this.stop = stop;
+            this.hashes = hashes;
+            this.start = start;
+            this.took = new AtomicLong(-1L);
+        }
+
+        /**
+         * Whether mining was cancelled.
+         * @return TRUE if it was
+         */
+        boolean stopped() {
+            return this.stop.get();
+        }
+
+        /**
+         * Count hashes.
+         * @param count How many hashes were computed
+         */
+        void count(final long count) {
+            this.hashes.add(count);
+        }
+
+        /**
+         * Mark mining as over.
+         */
+        void finish() {
+            this.took.compareAndSet(-1L, System.nanoTime() - this.start);
+        }
+
+        /**
+         * How long mining went on, until now if it's not over.
+         * @return Nanoseconds
+         */
+        long elapsed() {
+            long elapsed = this.took.get();
+            if (elapsed < 0L) {
+                elapsed = System.nanoTime() - this.start;
+            }
+            return elapsed;
+        }
+    }
+
+    /**
+     * Mining of the whole chain, one link after another.
+     * @since 1.0
+     */
+    private static final class Chain extends RecursiveTask<Score> {
+
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Prefix of the chain.
+         */
+        private final String prefix;
+
+        /**
+         * How many suffixes to find.
+         */
+        private final int length;
+
+        /**
+         * Zeros every link must end with.
+         */
+        private final int strength;
+
+        /**
+         * Where mining runs.
+         */
+        private final transient ForkJoinPool pool;
+
+        /**
+         * Stop flag and hash counter.
+         */
+        private final transient Miner.Effort effort;
+
+        /**
+         * Ctor.
+         * @param prefix Prefix of the chain
+         * @param length How many suffixes to find
+         * @param strength Zeros every link must end with
+         * @param pool Where mining runs
+         * @param effort Stop flag and hash counter
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Chain(final String prefix, final int length, final int strength,
+            final ForkJoinPool pool, final Miner.Effort effort) {
+            super();
+            this.prefix = prefix;
+            this.length = length;
+            this.strength = strength;
+            this.pool = pool;
+            this.effort = effort;
+        }
+
+        @Override
+        protected Score compute() {
+            final List<Text> suffixes = new ArrayList<>(this.length);
+            final Proof proof = new Proof(this.strength);
+            String link = this.prefix;
+            try {
+                while (suffixes.size() < this.length
+                    && !this.effort.stopped()) {
+                    final String suffix = this.suffix(link);
+                    if (!suffix.isEmpty()) {
+                        suffixes.add(new TextOf(suffix));
+                        link = proof.next(link, suffix);
+                    }
+                }
+            } finally {
+                this.effort.finish();
+            }
+            return new RtScore(this.prefix, suffixes);
+        }
+
+        /**
+         * Find the suffix of the next link, on all threads of the pool.
+         * @param link The link so far
+         * @return Suffix, empty if mining was cancelled before it was found
+         */
+        @SuppressWarnings("PMD.AvoidInstantiatingObjectsInLoops")
+        private String suffix(final String link) {
+            final AtomicLong next = new AtomicLong();
+            final AtomicLong found = new AtomicLong(-1L);
+            final byte[] head = new StringBuilder(link).append(' ')
+                .toString().getBytes(StandardCharsets.UTF_8);
+            final List<Miner.Nonces> tasks = new ArrayList<>(
+                this.pool.getParallelism()
+            );
+            for (int idx = 0; idx < this.pool.getParallelism(); ++idx) {
+                tasks.add(
+                    new Miner.Nonces(
+                        head, this.strength, next, found, this.effort
+                    )
+                );
+            }
+            ForkJoinTask.invokeAll(tasks);
+            String suffix = "";
+            if (found.get() >= 0L) {
+                suffix = Long.toHexString(found.get());
+            }
+            return suffix;
+        }
+    }
+
+    /**
+     * Search for a nonce that makes a good link.
+     * @since 1.0
+     */
+    private static final class Nonces extends RecursiveAction {
+
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Hex digits.
+         */
+        private static final byte[] HEX =
+            "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+        /**
+         * Previous link and a space.
+         */
+        private final byte[] head;
+
+        /**
+         * Zeros the link must end with.
+         */
+        private final int strength;
+
+        /**
+         * Next nonce to hand out.
+         */
+        private final AtomicLong next;
+
+        /**
+         * The nonce found, negative until it is.
+         */
+        private final AtomicLong found;
+
+        /**
+         * Stop flag and hash counter.
+         */
+        private final transient Miner.Effort effort;
+
+        /**
+         * Ctor.
+         * @param head Previous link and a space
+         * @param strength Zeros the link must end with
+         * @param next Next nonce to hand out
+         * @param found The nonce found, negative until it is
+         * @param effort Stop flag and hash counter
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Nonces(final byte[] head, final int strength, final AtomicLong next,
+            final AtomicLong found, final Miner.Effort effort) {
+            super();
+            this.head = head;
+            this.strength = strength;
+            this.next = next;
+            this.found = found;
+            this.effort = effort;
+        }
+
+        @Override
+        protected void compute() {
+            final MessageDigest digest = Miner.Nonces.sha();
+            // @checkstyle MagicNumberCheck (2 lines)
+            final byte[] hash = new byte[32];
+            final byte[] suffix = new byte[16];
+            while (this.found.get() < 0L && !this.effort.stopped()) {
+                final long from = this.next.getAndAdd(Miner.CHUNK);
+                long nonce = from;
+                while (nonce < from + Miner.CHUNK) {
+                    digest.update(this.head);
+                    digest.update(suffix, 0, Miner.Nonces.hex(nonce, suffix));
+                    try {
+                        digest.digest(hash, 0, hash.length);
+                    } catch (final DigestException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                    if (Miner.Nonces.zeros(hash, this.strength)) {
+                        this.found.compareAndSet(-1L, nonce);
+                        break;
+                    }
+                    nonce += 1L;
+                }
+                this.effort.count(nonce - from);
+            }
+        }
+
+        /**
+         * Write the nonce in lowercase hex, like {@link Long#toHexString}.
+         * @param nonce The nonce
+         * @param buffer Where to write
+         * @return How many digits were written
+         */
+        private static int hex(final long nonce, final byte[] buffer) {
+            int length = 1;
+            // @checkstyle MagicNumberCheck (6 lines)
+            for (long rest = nonce >>> 4; rest != 0L; rest >>>= 4) {
+                length += 1;
+            }
+            long rest = nonce;
+            for (int pos = length - 1; pos >= 0; --pos) {
+                buffer[pos] = Miner.Nonces.HEX[(int) (rest & 0x0fL)];
+                rest >>>= 4;
+            }
+            return length;
+        }
+
+        /**
+         * Whether the hash, in hex, ends with enough zeros.
+         * @param hash The hash
+         * @param strength How many zeros
+         * @return TRUE if it does
+         */
+        private static boolean zeros(final byte[] hash, final int strength) {
+            boolean zeros = true;
+            for (int idx = 0; idx < strength / 2 && zeros; ++idx) {
+                zeros = hash[hash.length - 1 - idx] == 0;
+            }
+            if (zeros && strength % 2 == 1) {
+                // @checkstyle MagicNumberCheck (1 line)
+                zeros = (hash[hash.length - 1 - strength / 2] & 0x0f) == 0;
+            }
+            return zeros;
+        }
+
+        /**
+         * New SHA-256 digest.
+         * @return Digest
+         */
+        private static MessageDigest sha() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (final NoSuchAlgorithmException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
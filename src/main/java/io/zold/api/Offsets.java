@@ -0,0 +1,510 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import org.cactoos.Func;
+import org.cactoos.Scalar;
+import org.cactoos.func.IoCheckedFunc;
+import org.cactoos.scalar.IoChecked;
+
+/**
+ * Index of the ledger lines of a wallet file, kept next to it.
+ *
+ * <p>The index, an {@code .idx} file, starts with the offset in the wallet
+ * file up to which lines are indexed, the number of entries, whether
+ * their times only grow and the {@link Stamp} of the wallet file up to
+ * the offset. Then go the entries, one per ledger line, with the offset
+ * of the line, the id and the epoch second of the transaction, 20 bytes
+ * each. Before every lookup the lines written since are added, see
+ * {@link Tail}, so the index follows every payment. If the wallet file
+ * is shorter than the indexed offset, or its stamp differs, it was
+ * replaced, and the index is built again. The index is made by the first
+ * lookup, and only then {@link #refresh()} keeps it up to date after
+ * every payment.
+ *
+ * <p>After the entries, with room for as many entries again, a power of
+ * two, goes a table of ids: the id and the number of each entry, sorted
+ * by id. It's built again when more than {@link #TAIL} entries are not in
+ * it, or when the entries outgrow their room, which moves it, so it's
+ * built rarely while the index keeps growing, and never moved when a
+ * line is added.
+ *
+ * <p>Entries are read straight from the index file: a line is found by
+ * time with a binary search over the entries, as long as their times
+ * only grow, and by id with a binary search over the table of ids and a
+ * scan of the few entries not in it yet, never of the ledger.
+ *
+ * @since 1.0
+ */
+final class Offsets {
+
+    /**
+     * Locks of index files, shared by all indexes of this process.
+     */
+    private static final Stripes STRIPES = new Stripes();
+
+    /**
+     * Bytes in the head of the index.
+     */
+    private static final int HEAD = 24;
+
+    /**
+     * Bytes in an entry.
+     */
+    private static final int ENTRY = 20;
+
+    /**
+     * Entries not in the table of ids, at most.
+     */
+    private static final int TAIL = 256;
+
+    /**
+     * Marker of the table of ids.
+     */
+    private static final int TABLE = 0x1d5;
+
+    /**
+     * The wallet file.
+     */
+    private final Path path;
+
+    /**
+     * The index file.
+     */
+    private final Path file;
+
+    /**
+     * Stamp of the wallet file.
+     */
+    private final Stamp stamp;
+
+    /**
+     * Where the lines written so far end.
+     */
+    private final IoChecked<Long> end;
+
+    /**
+     * Ctor.
+     * @param path The wallet file
+     * @param end Where the lines written so far end
+     */
+    Offsets(final Path path, final Scalar<Long> end) {
+        this.path = path;
+        this.file = Offsets.sidecar(path);
+        this.stamp = new Stamp(path);
+        this.end = new IoChecked<>(end);
+    }
+
+    /**
+     * File of the index, next to the wallet file.
+     * @param path The wallet file
+     * @return The index file
+     */
+    static Path sidecar(final Path path) {
+        return path.resolveSibling(
+            String.format("%s.idx", path.getFileName())
+        );
+    }
+
+    /**
+     * Offset of the first line with the transaction id.
+     * @param id Transaction id
+     * @return Offset, if there is such a line
+     * @throws IOException If the index can't be updated
+     */
+    Optional<Long> offset(final int id) throws IOException {
+        return this.locked(
+            index -> {
+                final int count = index.getInt(8);
+                final int covered = Offsets.covered(index, count);
+                final int table = (int) Offsets.table(count) + Long.BYTES;
+                int low = 0;
+                int high = covered;
+                while (low < high) {
+                    final int mid = (low + high) >>> 1;
+                    if (index.getInt(table + mid * Long.BYTES) < id) {
+                        low = mid + 1;
+                    } else {
+                        high = mid;
+                    }
+                }
+                int entry = -1;
+                if (low < covered
+                    && index.getInt(table + low * Long.BYTES) == id) {
+                    entry = index.getInt(
+                        table + low * Long.BYTES + Integer.BYTES
+                    );
+                }
+                for (int idx = covered; entry < 0 && idx < count; ++idx) {
+                    // @checkstyle MagicNumberCheck (1 line)
+                    if (index.getInt(Offsets.HEAD + idx * Offsets.ENTRY + 8)
+                        == id) {
+                        entry = idx;
+                    }
+                }
+                Optional<Long> found = Optional.empty();
+                if (entry >= 0) {
+                    found = Optional.of(
+                        index.getLong(Offsets.HEAD + entry * Offsets.ENTRY)
+                    );
+                }
+                return found;
+            }
+        );
+    }
+
+    /**
+     * Offset of the first line with a time not before the one given.
+     * Lines after it may still be older, if they were written after the
+     * index was updated, or if times in the ledger don't only grow, in
+     * which case the offset is zero, the start of the file.
+     * @param epoch Epoch second
+     * @return Offset
+     * @throws IOException If the index can't be updated
+     */
+    long since(final long epoch) throws IOException {
+        return this.locked(index -> Offsets.search(index, epoch));
+    }
+
+    /**
+     * Add lines written since the last time, if the index was ever made.
+     * @throws IOException If the index can't be updated
+     */
+    void refresh() throws IOException {
+        if (Files.exists(this.file)) {
+            this.locked(index -> index);
+        }
+    }
+
+    /**
+     * Offset of the first entry with a time not before the one given.
+     * @param index The index
+     * @param epoch Epoch second
+     * @return Offset, zero if the times of the entries don't only grow
+     */
+    private static long search(final ByteBuffer index, final long epoch) {
+        long found = 0L;
+        final int count = index.getInt(8);
+        // @checkstyle MagicNumberCheck (1 line)
+        if (index.getInt(12) == 1) {
+            int low = 0;
+            int high = count;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                // @checkstyle MagicNumberCheck (2 lines)
+                if (index.getLong(Offsets.HEAD + mid * Offsets.ENTRY + 12)
+                    < epoch) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            if (low < count) {
+                found = index.getLong(Offsets.HEAD + low * Offsets.ENTRY);
+            } else {
+                found = index.getLong(0);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Where the table of ids goes, after room for the entries.
+     * @param count Entries in the index
+     * @return Offset in the index file
+     */
+    private static long table(final int count) {
+        // @checkstyle MagicNumberCheck (1 line)
+        long room = 64L;
+        while (room < count) {
+            room <<= 1;
+        }
+        return Offsets.HEAD + room * Offsets.ENTRY;
+    }
+
+    /**
+     * Entries in the table of ids.
+     * @param index The index
+     * @param count Entries in the index
+     * @return Entries, zero if there is no table
+     */
+    private static int covered(final ByteBuffer index, final int count) {
+        final long pos = Offsets.table(count);
+        int covered = 0;
+        if (pos + Long.BYTES <= index.limit()
+            && index.getInt((int) pos + Integer.BYTES) == Offsets.TABLE) {
+            final int size = index.getInt((int) pos);
+            if (size <= count
+                && pos + Long.BYTES * (size + 1L) <= index.limit()) {
+                covered = size;
+            }
+        }
+        return covered;
+    }
+
+    /**
+     * Build the table of ids again, for all entries.
+     * @param channel The index file
+     * @param count Entries in the index
+     * @throws IOException If it can't be written
+     */
+    private static void sort(final FileChannel channel, final int count)
+        throws IOException {
+        final ByteBuffer entries = channel.map(
+            FileChannel.MapMode.READ_ONLY, Offsets.HEAD,
+            (long) count * Offsets.ENTRY
+        );
+        final long[] ids = new long[count];
+        for (int idx = 0; idx < count; ++idx) {
+            // @checkstyle MagicNumberCheck (1 line)
+            ids[idx] = (long) entries.getInt(idx * Offsets.ENTRY + 8) << 32
+                | idx;
+        }
+        Arrays.sort(ids);
+        final ByteBuffer table = ByteBuffer.allocate(
+            Long.BYTES * (count + 1)
+        );
+        table.putInt(count).putInt(Offsets.TABLE);
+        for (final long pair : ids) {
+            // @checkstyle MagicNumberCheck (1 line)
+            table.putInt((int) (pair >>> 32)).putInt((int) pair);
+        }
+        table.flip();
+        long pos = Offsets.table(count);
+        while (table.hasRemaining()) {
+            pos += channel.write(table, pos);
+        }
+    }
+
+    /**
+     * Update the index and search it, holding the lock of the index in
+     * this process and a lock of the index file, so the index doesn't
+     * change under the search.
+     * @param search What to find in the index
+     * @param <T> Type of what is found
+     * @return What is found
+     * @throws IOException If the index can't be updated
+     */
+    private <T> T locked(final Func<ByteBuffer, T> search)
+        throws IOException {
+        final Lock stripe = Offsets.STRIPES.lock(this.file);
+        stripe.lock();
+        try (FileChannel channel = this.open()) {
+            final FileLock lock = channel.lock();
+            try {
+                return new IoCheckedFunc<>(search).apply(this.update(channel));
+            } finally {
+                lock.release();
+            }
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * Open the index file.
+     * @return Channel
+     * @throws IOException If it can't be opened
+     */
+    private FileChannel open() throws IOException {
+        return FileChannel.open(
+            this.file, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE
+        );
+    }
+
+    /**
+     * Add lines written since the last time.
+     * @param channel The index file, locked
+     * @return The index, mapped
+     * @throws IOException If it can't be updated
+     */
+    private ByteBuffer update(final FileChannel channel) throws IOException {
+        final long end = this.end.value();
+        final ByteBuffer head = ByteBuffer.allocate(Offsets.HEAD);
+        long from = 0L;
+        int count = 0;
+        boolean sorted = true;
+        boolean fresh = true;
+        if (channel.read(head, 0L) == Offsets.HEAD
+            && head.getLong(0) <= end
+            // @checkstyle MagicNumberCheck (1 line)
+            && head.getLong(16) == this.stamp.value(head.getLong(0))) {
+            from = head.getLong(0);
+            count = head.getInt(8);
+            // @checkstyle MagicNumberCheck (1 line)
+            sorted = head.getInt(12) == 1;
+            fresh = false;
+        }
+        if (from < end || channel.size() < Offsets.HEAD) {
+            final Offsets.Appending added = new Offsets.Appending(
+                channel, count, sorted, this.last(channel, count)
+            );
+            from = new Tail(this.path).read(from, end, added);
+            added.flush();
+            head.clear();
+            head.putLong(from).putInt(added.count())
+                .putInt(added.sorted()).putLong(this.stamp.value(from)).flip();
+            channel.write(head, 0L);
+            final int total = added.count();
+            int covered = 0;
+            if (!fresh && Offsets.table(total) == Offsets.table(count)) {
+                covered = Offsets.covered(
+                    channel.map(
+                        FileChannel.MapMode.READ_ONLY, 0L, channel.size()
+                    ),
+                    total
+                );
+            }
+            if (total - covered > Offsets.TAIL) {
+                Offsets.sort(channel, total);
+                covered = total;
+            }
+            long size = Offsets.HEAD + (long) total * Offsets.ENTRY;
+            if (covered > 0) {
+                size = Offsets.table(total) + Long.BYTES * (covered + 1L);
+            }
+            channel.truncate(size);
+        }
+        return channel.map(
+            FileChannel.MapMode.READ_ONLY, 0L, channel.size()
+        );
+    }
+
+    /**
+     * Epoch second of the last entry.
+     * @param channel The index file
+     * @param count Entries in it
+     * @return Epoch second, or the smallest one if there are no entries
+     * @throws IOException If it can't be read
+     */
+    private long last(final FileChannel channel, final int count)
+        throws IOException {
+        long last = Long.MIN_VALUE;
+        if (count > 0) {
+            final ByteBuffer epoch = ByteBuffer.allocate(Long.BYTES);
+            channel.read(
+                epoch,
+                // @checkstyle MagicNumberCheck (1 line)
+                Offsets.HEAD + (long) (count - 1) * Offsets.ENTRY + 12
+            );
+            last = epoch.getLong(0);
+        }
+        return last;
+    }
+
+    /**
+     * Entries added to the index, for whole lines.
+     * @since 1.0
+     */
+    private static final class Appending implements Tail.Visitor {
+
+        /**
+         * The index file.
+         */
+        private final FileChannel channel;
+
+        /**
+         * Entries not written yet.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Entries in the index.
+         */
+        private int entries;
+
+        /**
+         * Whether times of the entries only grow.
+         */
+        private boolean growing;
+
+        /**
+         * Epoch second of the last entry.
+         */
+        private long last;
+
+        /**
+         * Ctor.
+         * @param channel The index file
+         * @param count Entries in the index
+         * @param sorted Whether times of the entries only grow
+         * @param last Epoch second of the last entry
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Appending(final FileChannel channel, final int count,
+            final boolean sorted, final long last) {
+            this.channel = channel;
+            // @checkstyle MagicNumberCheck (1 line)
+            this.buffer = ByteBuffer.allocate(Offsets.ENTRY * 512);
+            this.entries = count;
+            this.growing = sorted;
+            this.last = last;
+        }
+
+        @Override
+        public void visit(final long start, final String line,
+            final boolean whole) throws IOException {
+            if (whole) {
+                final Transaction txn = new RtTransaction(line);
+                final long epoch = txn.time().toEpochSecond();
+                if (epoch < this.last) {
+                    this.growing = false;
+                }
+                this.last = epoch;
+                if (this.buffer.remaining() < Offsets.ENTRY) {
+                    this.flush();
+                }
+                this.buffer.putLong(start).putInt(txn.id()).putLong(epoch);
+                this.entries += 1;
+            }
+        }
+
+        /**
+         * Write the entries not written yet.
+         * @throws IOException If they can't be written
+         */
+        void flush() throws IOException {
+            this.buffer.flip();
+            final long written = this.entries
+                - this.buffer.remaining() / Offsets.ENTRY;
+            long pos = Offsets.HEAD + written * Offsets.ENTRY;
+            while (this.buffer.hasRemaining()) {
+                pos += this.channel.write(this.buffer, pos);
+            }
+            this.buffer.clear();
+        }
+
+        /**
+         * Entries in the index.
+         * @return Count
+         */
+        int count() {
+            return this.entries;
+        }
+
+        /**
+         * Whether times of the entries only grow.
+         * @return One if they do, zero if not
+         */
+        int sorted() {
+            int sorted = 0;
+            if (this.growing) {
+                sorted = 1;
+            }
+            return sorted;
+        }
+    }
+}
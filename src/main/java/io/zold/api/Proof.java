@@ -0,0 +1,183 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Map;
+import org.cactoos.Text;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Proof of work behind a {@link Score}.
+ *
+ * <p>The chain starts from the {@link Score#prefix() prefix}; every suffix
+ * is appended to the previous link after a space and the SHA-256 of that,
+ * in lowercase hex, is the next link. As in the Zold whitepaper, every link
+ * must end with the required number of zeros, otherwise the score is
+ * fake. A score without suffixes proves nothing and is valid.
+ *
+ * <p>Verdicts are kept by the SHA-256 of the chain, so a score seen again,
+ * from any node, is not verified again. Only the verdicts used most
+ * recently are kept, up to the capacity.
+ *
+ * @since 1.0
+ */
+public final class Proof {
+
+    /**
+     * Hex digits.
+     */
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * Verdicts kept, by default.
+     */
+    private static final int CAPACITY = 4096;
+
+    /**
+     * Zeros every link must end with.
+     */
+    private final String zeros;
+
+    /**
+     * Verdicts, by hash of the chain.
+     */
+    private final Map<String, Boolean> verdicts;
+
+    /**
+     * Digests, one per thread.
+     */
+    private final ThreadLocal<MessageDigest> digests;
+
+    /**
+     * Ctor.
+     * @param strength How many zeros every link must end with
+     */
+    public Proof(final int strength) {
+        this(strength, Proof.CAPACITY);
+    }
+
+    /**
+     * Ctor.
+     * @param strength How many zeros every link must end with
+     * @param capacity How many verdicts to keep
+     */
+    public Proof(final int strength, final int capacity) {
+        this(
+            new String(new char[strength]).replace('\0', '0'),
+            Collections.synchronizedMap(new Recent<>(capacity)),
+            ThreadLocal.withInitial(Proof::sha)
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param zeros Zeros every link must end with
+     * @param verdicts Verdicts, by hash of the chain
+     * @param digests Digests, one per thread
+     */
+    private Proof(final String zeros, final Map<String, Boolean> verdicts,
+        final ThreadLocal<MessageDigest> digests) {
+        this.zeros = zeros;
+        this.verdicts = verdicts;
+        this.digests = digests;
+    }
+
+    /**
+     * Whether the suffixes of the score are a valid proof of work.
+     * @param score The score
+     * @return TRUE if the proof is valid
+     */
+    public boolean valid(final Score score) {
+        final String key = this.hash(score);
+        Boolean valid = this.verdicts.get(key);
+        if (valid == null) {
+            valid = this.verify(score);
+            this.verdicts.put(key, valid);
+        }
+        return valid;
+    }
+
+    /**
+     * Next link of the chain.
+     * @param link Current link
+     * @param suffix The suffix
+     * @return Next link, in hex
+     */
+    String next(final String link, final String suffix) {
+        final MessageDigest digest = this.digests.get();
+        digest.update(link.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) ' ');
+        return Proof.hex(
+            digest.digest(suffix.getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    /**
+     * Hash of the whole chain, fed to the digest piece by piece.
+     * @param score The score
+     * @return Hash, in hex
+     */
+    private String hash(final Score score) {
+        final MessageDigest digest = this.digests.get();
+        digest.update(score.prefix().getBytes(StandardCharsets.UTF_8));
+        for (final Text suffix : score.suffixes()) {
+            digest.update((byte) ' ');
+            digest.update(
+                new UncheckedText(suffix).asString()
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        return Proof.hex(digest.digest());
+    }
+
+    /**
+     * Hash the chain link by link.
+     * @param score The score
+     * @return TRUE if every link ends with enough zeros
+     */
+    private boolean verify(final Score score) {
+        String link = score.prefix();
+        boolean valid = true;
+        for (final Text suffix : score.suffixes()) {
+            link = this.next(link, new UncheckedText(suffix).asString());
+            if (!link.endsWith(this.zeros)) {
+                valid = false;
+                break;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Bytes in lowercase hex.
+     * @param bytes The bytes
+     * @return Hex
+     */
+    private static String hex(final byte[] bytes) {
+        final char[] hex = new char[bytes.length * 2];
+        for (int idx = 0; idx < bytes.length; ++idx) {
+            // @checkstyle MagicNumberCheck (2 lines)
+            hex[idx * 2] = Proof.HEX[(bytes[idx] >> 4) & 0x0f];
+            hex[idx * 2 + 1] = Proof.HEX[bytes[idx] & 0x0f];
+        }
+        return new String(hex);
+    }
+
+    /**
+     * New SHA-256 digest.
+     * @return Digest
+     */
+    private static MessageDigest sha() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
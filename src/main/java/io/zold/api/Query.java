@@ -0,0 +1,243 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import org.cactoos.iterable.IterableOf;
+
+/**
+ * Which transactions of a ledger to take, see
+ * {@link Wallet#ledger(Query)}.
+ *
+ * <p>A wallet kept in a file asks the query about every line before
+ * making a transaction of it, and the query reads only the fields it
+ * needs, straight from the line, so a line that doesn't match is never
+ * parsed. Other wallets ask it about their transactions.
+ *
+ * @since 1.0
+ */
+public interface Query {
+
+    /**
+     * Whether the transaction line matches.
+     * @param line Line of the transaction
+     * @return TRUE if it does
+     * @throws IOException If a field the query needs is invalid
+     */
+    boolean matches(CharSequence line) throws IOException;
+
+    /**
+     * Whether the transaction matches.
+     * @param txn The transaction
+     * @return TRUE if it does
+     * @throws IOException If a field the query needs is invalid
+     */
+    boolean matches(Transaction txn) throws IOException;
+
+    /**
+     * Payments: transactions with a negative amount.
+     * @since 1.0
+     */
+    final class Negative implements Query {
+
+        @Override
+        public boolean matches(final CharSequence line) throws IOException {
+            return new Field(line, 2).hex() < 0L;
+        }
+
+        @Override
+        public boolean matches(final Transaction txn) throws IOException {
+            return txn.amount() < 0L;
+        }
+    }
+
+    /**
+     * Incomes: transactions with a positive amount.
+     * @since 1.0
+     */
+    final class Positive implements Query {
+
+        @Override
+        public boolean matches(final CharSequence line) throws IOException {
+            return new Field(line, 2).hex() > 0L;
+        }
+
+        @Override
+        public boolean matches(final Transaction txn) throws IOException {
+            return txn.amount() > 0L;
+        }
+    }
+
+    /**
+     * Transactions with the beneficiary.
+     * @since 1.0
+     */
+    final class Beneficiary implements Query {
+
+        /**
+         * Wallet ID of beneficiary.
+         */
+        private final long bnf;
+
+        /**
+         * Ctor.
+         * @param bnf Wallet ID of beneficiary
+         */
+        public Beneficiary(final long bnf) {
+            this.bnf = bnf;
+        }
+
+        @Override
+        public boolean matches(final CharSequence line) throws IOException {
+            // @checkstyle MagicNumberCheck (1 line)
+            return new Field(line, 4).hex() == this.bnf;
+        }
+
+        @Override
+        public boolean matches(final Transaction txn) throws IOException {
+            // @checkstyle MagicNumberCheck (1 line)
+            return Long.parseUnsignedLong(txn.bnf(), 16) == this.bnf;
+        }
+    }
+
+    /**
+     * Transactions with ids in a range.
+     * @since 1.0
+     */
+    final class Ids implements Query {
+
+        /**
+         * Smallest id, inclusive.
+         */
+        private final int first;
+
+        /**
+         * Largest id, inclusive.
+         */
+        private final int last;
+
+        /**
+         * Ctor.
+         * @param first Smallest id, inclusive
+         * @param last Largest id, inclusive
+         */
+        public Ids(final int first, final int last) {
+            this.first = first;
+            this.last = last;
+        }
+
+        @Override
+        public boolean matches(final CharSequence line) throws IOException {
+            final long id = new Field(line, 0).hex();
+            return id >= this.first && id <= this.last;
+        }
+
+        @Override
+        public boolean matches(final Transaction txn) throws IOException {
+            final int id = txn.id();
+            return id >= this.first && id <= this.last;
+        }
+    }
+
+    /**
+     * Transactions made in a period of time.
+     * @since 1.0
+     */
+    final class Period implements Query {
+
+        /**
+         * Start of the period, inclusive.
+         */
+        private final ZonedDateTime start;
+
+        /**
+         * End of the period, exclusive.
+         */
+        private final ZonedDateTime end;
+
+        /**
+         * Ctor.
+         * @param start Start of the period, inclusive
+         * @param end End of the period, exclusive
+         */
+        public Period(final ZonedDateTime start, final ZonedDateTime end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean matches(final CharSequence line) throws IOException {
+            return this.covers(new Field(line, 1).time());
+        }
+
+        @Override
+        public boolean matches(final Transaction txn) throws IOException {
+            return this.covers(txn.time());
+        }
+
+        /**
+         * Whether the time is in the period.
+         * @param time The time
+         * @return TRUE if it is
+         */
+        private boolean covers(final ZonedDateTime time) {
+            return !time.isBefore(this.start) && time.isBefore(this.end);
+        }
+    }
+
+    /**
+     * Transactions matching all queries. The queries are asked in order,
+     * until one of them doesn't match, so the cheapest one goes first.
+     * @since 1.0
+     */
+    final class All implements Query {
+
+        /**
+         * The queries.
+         */
+        private final Iterable<Query> queries;
+
+        /**
+         * Ctor.
+         * @param queries The queries
+         */
+        public All(final Query... queries) {
+            this(new IterableOf<>(queries));
+        }
+
+        /**
+         * Ctor.
+         * @param queries The queries
+         */
+        public All(final Iterable<Query> queries) {
+            this.queries = queries;
+        }
+
+        @Override
+        public boolean matches(final CharSequence line) throws IOException {
+            boolean matches = true;
+            for (final Query query : this.queries) {
+                matches = query.matches(line);
+                if (!matches) {
+                    break;
+                }
+            }
+            return matches;
+        }
+
+        @Override
+        public boolean matches(final Transaction txn) throws IOException {
+            boolean matches = true;
+            for (final Query query : this.queries) {
+                matches = query.matches(txn);
+                if (!matches) {
+                    break;
+                }
+            }
+            return matches;
+        }
+    }
+}
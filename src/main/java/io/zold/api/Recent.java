@@ -0,0 +1,45 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Entries used most recently, up to the capacity; the one used least
+ * recently goes away when a new one comes. Not thread-safe, wrap it with
+ * {@link java.util.Collections#synchronizedMap(Map)} to share it.
+ *
+ * @param <K> Type of keys
+ * @param <V> Type of values
+ * @since 1.0
+ */
+final class Recent<K, V> extends LinkedHashMap<K, V> {
+
+    /**
+     * Serialization marker.
+     */
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * How many entries to keep.
+     */
+    private final int capacity;
+
+    /**
+     * Ctor.
+     * @param capacity How many entries to keep
+     */
+    Recent(final int capacity) {
+        // @checkstyle MagicNumberCheck (1 line)
+        super(16, 0.75f, true);
+        this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+        return this.size() > this.capacity;
+    }
+}
@@ -6,10 +6,14 @@ package io.zold.api;
 
 import java.io.IOException;
 import java.util.Iterator;
+import java.util.List;
 import org.cactoos.iterable.Mapped;
 import org.cactoos.iterable.Sorted;
+import org.cactoos.list.ListOf;
 import org.cactoos.scalar.IoChecked;
 import org.cactoos.scalar.Reduced;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
 
 /**
  * Network implementation.
@@ -34,11 +38,41 @@ public final class RtNetwork implements Network {
         this.nodes = remotes;
     }
 
+    /**
+     * Push the wallet to all remotes at once and wait for all of them.
+     *
+     * <p>Remotes that fail to accept the wallet don't stop it from reaching
+     * the others, but if none of them accepts it, the push fails, with
+     * every failure suppressed in it. Use {@link Broadcast} to see how every
+     * push went, or to stop waiting once a quorum of remotes has the wallet.
+     *
+     * @param wallet The wallet
+     */
     @Override
     public void push(final Wallet wallet) {
-        this.nodes.forEach(
-            remote -> remote.push(wallet)
-        );
+        final List<Broadcast.Delivery> deliveries =
+            new Broadcast(this.nodes).push(wallet).join();
+        int acks = 0;
+        for (final Broadcast.Delivery delivery : deliveries) {
+            if (delivery.success()) {
+                acks += 1;
+            }
+        }
+        final int total = new ListOf<>(this.nodes).size();
+        if (total > 0 && acks == 0) {
+            final IllegalStateException error = new IllegalStateException(
+                new UncheckedText(
+                    new FormattedText(
+                        "None of %d remotes accepted the wallet, %d answered",
+                        total, deliveries.size()
+                    )
+                ).asString()
+            );
+            for (final Broadcast.Delivery delivery : deliveries) {
+                delivery.error().ifPresent(error::addSuppressed);
+            }
+            throw error;
+        }
     }
 
     @Override
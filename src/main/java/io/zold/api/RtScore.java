@@ -4,8 +4,10 @@
  */
 package io.zold.api;
 
+import org.cactoos.Scalar;
 import org.cactoos.Text;
 import org.cactoos.scalar.LengthOf;
+import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Unchecked;
 
 /**
@@ -14,27 +16,77 @@ import org.cactoos.scalar.Unchecked;
  */
 public final class RtScore implements Score {
 
+    /**
+     * The prefix.
+     */
+    private final String pfx;
+
     /**
      * The suffixes.
      */
     private final Iterable<Text> sfxs;
 
+    /**
+     * The value, counted once.
+     */
+    private final Unchecked<Integer> count;
+
     /**
      * Ctor.
      * @param sfxs The suffixes
      */
     RtScore(final Iterable<Text> sfxs) {
+        this("", sfxs);
+    }
+
+    /**
+     * Ctor.
+     * @param prefix The prefix
+     * @param sfxs The suffixes
+     */
+    RtScore(final String prefix, final Iterable<Text> sfxs) {
+        this(prefix, sfxs, () -> new LengthOf(sfxs).value().intValue());
+    }
+
+    /**
+     * Ctor.
+     * @param sfxs The suffixes
+     * @param value How to count the value
+     */
+    RtScore(final Iterable<Text> sfxs, final Scalar<Integer> value) {
+        this("", sfxs, value);
+    }
+
+    /**
+     * Ctor.
+     * @param prefix The prefix
+     * @param sfxs The suffixes
+     * @param value How to count the value
+     */
+    RtScore(final String prefix, final Iterable<Text> sfxs,
+        final Scalar<Integer> value) {
+        this.pfx = prefix;
         this.sfxs = sfxs;
+        this.count = new Unchecked<>(new Sticky<>(value));
     }
 
     @Override
     public int compareTo(final Score other) {
-        return new Unchecked<>(new LengthOf(other.suffixes())).value().intValue()
-            - new Unchecked<>(new LengthOf(this.sfxs)).value().intValue();
+        return Integer.compare(other.value(), this.value());
+    }
+
+    @Override
+    public int value() {
+        return this.count.value();
     }
 
     @Override
     public Iterable<Text> suffixes() {
         return this.sfxs;
     }
+
+    @Override
+    public String prefix() {
+        return this.pfx;
+    }
 }
@@ -5,114 +5,192 @@
 package io.zold.api;
 
 import java.io.IOException;
-import java.math.BigInteger;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
-import java.util.regex.Pattern;
-import org.cactoos.Text;
-import org.cactoos.list.ListOf;
-import org.cactoos.scalar.IoChecked;
-import org.cactoos.scalar.ItemAt;
-import org.cactoos.scalar.LengthOf;
-import org.cactoos.scalar.Sticky;
-import org.cactoos.scalar.Unchecked;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import org.cactoos.Func;
 import org.cactoos.text.FormattedText;
-import org.cactoos.text.Split;
-import org.cactoos.text.TextOf;
-import org.cactoos.text.Trimmed;
 import org.cactoos.text.UncheckedText;
-import org.cactoos.time.ZonedDateTimeOf;
 
 /**
  * RtTransaction.
  * @since 0.1
  * @checkstyle ClassDataAbstractionCoupling (3 lines)
+ * @checkstyle ClassFanOutComplexityCheck (3 lines)
  */
 final class RtTransaction implements Transaction {
 
     /**
-     * Pattern for Prefix String.
+     * Hex digits.
      */
-    private static final Pattern PREFIX = Pattern.compile(
-        //@checkstyle LineLengthCheck (1 line)
-        "^([A-Za-z0-9+\\/]{4})*([A-Za-z0-9+\\/]{4}|[A-Za-z0-9+\\/]{3}=|[A-Za-z0-9+\\/]{2}==)$"
-    );
+    private static final Alphabet HEX = new Alphabet("A-Fa-f0-9");
 
     /**
-     * Pattern for 16 symbol hex string.
+     * Base64 digits, without padding.
      */
-    private static final Pattern HEX = Pattern.compile("[A-Fa-f0-9]{16}");
+    private static final Alphabet BASE64 = new Alphabet("A-Za-z0-9+/");
 
     /**
-     * Pattern for parsing Signature.
+     * Base64 padding.
      */
-    private static final Pattern SIGN = Pattern.compile("[A-Za-z0-9+/]+={0,3}");
+    private static final Alphabet PAD = new Alphabet("=");
 
     /**
-     * Pattern for Details string.
+     * Characters allowed in details.
      */
-    private static final Pattern DTLS =
-        Pattern.compile("[A-Za-z0-9 -.]{1,512}");
+    private static final Alphabet DTLS = new Alphabet("A-Za-z0-9 -.");
 
     /**
-     * Pattern for ID String.
+     * Longest details.
      */
-    private static final Pattern IDENT = Pattern.compile("[A-Fa-f0-9]{4}");
+    private static final int DTLS_MAX = 512;
 
     /**
-     * String representation of transaction.
+     * Length of signature.
      */
-    private final IoChecked<String> transaction;
+    private static final int SIGN_LENGTH = 684;
+
+    /**
+     * Fields a transaction line is made of.
+     */
+    private static final int SIZE = 7;
+
+    /**
+     * The line, with its fields decoded on first access.
+     */
+    private final RtTransaction.Line transaction;
 
     /**
      * Ctor.
+     *
+     * <p>Fields are validated and decoded on first access to any of them,
+     * all at once, and kept. A field that is invalid is reported only when
+     * it is asked for, the way it would be if it was decoded alone.
+     *
      * @param trnsct String representation of transaction
-     * @checkstyle LambdaBodyLengthCheck (28 lines)
      */
-    RtTransaction(final String trnsct) {
-        this.transaction = new IoChecked<>(
-            new Sticky<>(
-                () -> {
-                    if (
-                        new Trimmed(
-                            new TextOf(trnsct)
-                        ).asString().isEmpty()
-                    ) {
-                        throw new IOException(
-                            "Invalid transaction string: string is empty"
-                        );
-                    }
-                    final List<Text> pieces =
-                        new ListOf<>(
-                            new Split(trnsct, ";")
-                        );
-                    // @checkstyle MagicNumberCheck (1 line)
-                    if (new LengthOf(pieces).value().intValue() != 7) {
-                        throw new IOException(
-                            new FormattedText(
-                                // @checkstyle LineLength (1 line)
-                                "Invalid transaction string: expected 7 fields, but found %d",
-                                pieces.size()
-                            ).asString()
-                        );
-                    }
-                    return trnsct;
-                }
-            )
-        );
+    RtTransaction(final CharSequence trnsct) {
+        this.transaction = new RtTransaction.Line(trnsct);
     }
 
     @Override
     public int id() throws IOException {
-        final String ident = new UncheckedText(
-            new IoChecked<>(
-                new ItemAt<>(
-                    0, new Split(this.transaction.value(), ";")
-                )
-            ).value()
-        ).asString();
-        if (!RtTransaction.IDENT.matcher(ident).matches()) {
+        return this.transaction.fields(0).ident;
+    }
+
+    @Override
+    public ZonedDateTime time() throws IOException {
+        final RtTransaction.Decoded fields = this.transaction.fields(1);
+        return ZonedDateTime.ofInstant(
+            Instant.ofEpochSecond(fields.epoch, fields.nano),
+            ZoneOffset.ofTotalSeconds(fields.offset)
+        );
+    }
+
+    @Override
+    public long amount() throws IOException {
+        return this.transaction.fields(2).amnt;
+    }
+
+    @Override
+    public String prefix() throws IOException {
+        // @checkstyle MagicNumberCheck (1 line)
+        return this.transaction.fields(3).pfx;
+    }
+
+    @Override
+    public String bnf() throws IOException {
+        // @checkstyle MagicNumberCheck (1 line)
+        return this.transaction.fields(4).beneficiary;
+    }
+
+    @Override
+    public String details() throws IOException {
+        // @checkstyle MagicNumberCheck (1 line)
+        return this.transaction.fields(5).dtls;
+    }
+
+    @Override
+    public String signature() throws IOException {
+        // @checkstyle MagicNumberCheck (1 line)
+        return this.transaction.fields(6).sign;
+    }
+
+    @Override
+    public String toString() {
+        return this.transaction.toString();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null || this.getClass() != obj.getClass()) {
+            return false;
+        }
+        return this.transaction.equals(((RtTransaction) obj).transaction);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.transaction.hashCode();
+    }
+
+    /**
+     * Check that the line has all fields.
+     * @param line The line
+     * @throws IOException If it doesn't
+     */
+    private static void broken(final CharSequence line) throws IOException {
+        if (RtTransaction.blank(line)) {
+            throw new IOException(
+                "Invalid transaction string: string is empty"
+            );
+        }
+        final int count = new Fields(line).count();
+        if (count != RtTransaction.SIZE) {
+            throw new IOException(
+                new UncheckedText(
+                    new FormattedText(
+                        // @checkstyle LineLength (1 line)
+                        "Invalid transaction string: expected 7 fields, but found %d",
+                        count
+                    )
+                ).asString()
+            );
+        }
+    }
+
+    /**
+     * Whether the text is empty or has only whitespace, the way
+     * {@link String#trim()} sees it.
+     * @param text The text
+     * @return TRUE if there is nothing but whitespace
+     */
+    private static boolean blank(final CharSequence text) {
+        boolean blank = true;
+        for (int pos = 0; pos < text.length() && blank; ++pos) {
+            blank = text.charAt(pos) <= ' ';
+        }
+        return blank;
+    }
+
+    /**
+     * Decode id.
+     * @param fields Fields of the transaction
+     * @return Id
+     * @throws IOException If the id is invalid
+     */
+    private static int ident(final Fields fields) throws IOException {
+        final String ident = fields.text(0);
+        // @checkstyle MagicNumber (1 line)
+        if (!RtTransaction.HEX.covers(ident, 4)) {
             throw new IOException(
                 new UncheckedText(
                     new FormattedText(
@@ -127,30 +205,28 @@ final class RtTransaction implements Transaction {
         return Integer.parseUnsignedInt(ident, 16);
     }
 
-    @Override
-    public ZonedDateTime time() throws IOException {
-        return new ZonedDateTimeOf(
-            new UncheckedText(
-                new IoChecked<>(
-                    new ItemAt<>(
-                        1, new Split(this.transaction.value(), ";")
-                    )
-                ).value()
-            ).asString(),
+    /**
+     * Decode time.
+     * @param fields Fields of the transaction
+     * @return Time
+     */
+    private static OffsetDateTime time(final Fields fields) {
+        return OffsetDateTime.parse(
+            fields.at(1),
             DateTimeFormatter.ISO_OFFSET_DATE_TIME
-        ).value();
+        );
     }
 
-    @Override
-    public long amount() throws IOException {
-        final String amnt = new UncheckedText(
-            new IoChecked<>(
-                new ItemAt<>(
-                    2, new Split(this.transaction.value(), ";")
-                )
-            ).value()
-        ).asString();
-        if (!RtTransaction.HEX.matcher(amnt).matches()) {
+    /**
+     * Decode amount.
+     * @param fields Fields of the transaction
+     * @return Amount
+     * @throws IOException If the amount is invalid
+     */
+    private static long amount(final Fields fields) throws IOException {
+        final String amnt = fields.text(2);
+        // @checkstyle MagicNumber (1 line)
+        if (!RtTransaction.HEX.covers(amnt, 16)) {
             throw new IOException(
                 new UncheckedText(
                     new FormattedText(
@@ -162,40 +238,55 @@ final class RtTransaction implements Transaction {
             );
         }
         // @checkstyle MagicNumber (1 line)
-        return new BigInteger(amnt, 16).longValue();
+        return Long.parseUnsignedLong(amnt, 16);
     }
 
-    @Override
-    public String prefix() throws IOException {
-        final String prefix = new UncheckedText(
-            new IoChecked<>(
-                new ItemAt<>(
-                    //@checkstyle MagicNumberCheck (1 line)
-                    3, new Split(this.transaction.value(), ";")
-                )
-            ).value()
-        ).asString();
+    /**
+     * Validate prefix.
+     * @param fields Fields of the transaction
+     * @return Prefix
+     * @throws IOException If the prefix is invalid
+     */
+    private static String prefix(final Fields fields) throws IOException {
+        final String prefix =
+            // @checkstyle MagicNumberCheck (1 line)
+            fields.text(3);
         //@checkstyle MagicNumberCheck (1 line)
         if (prefix.length() < 8 || prefix.length() > 32) {
             throw new IOException("Invalid prefix size");
         }
-        if (!RtTransaction.PREFIX.matcher(prefix).matches()) {
+        if (!RtTransaction.padded(prefix)) {
             throw new IOException("Invalid base64 prefix");
         }
         return prefix;
     }
 
-    @Override
-    public String bnf() throws IOException {
-        final String bnf = new UncheckedText(
-            new IoChecked<>(
-                new ItemAt<>(
-                    //@checkstyle MagicNumberCheck (1 line)
-                    4, new Split(this.transaction.value(), ";")
-                )
-            ).value()
-        ).asString();
-        if (!RtTransaction.HEX.matcher(bnf).matches()) {
+    /**
+     * Check base64 with whole groups of four and up to two padding
+     * characters, the way a prefix is written.
+     * @param text The text
+     * @return TRUE if it is such base64
+     */
+    static boolean padded(final CharSequence text) {
+        final int body = RtTransaction.BASE64.span(text, 0);
+        // @checkstyle MagicNumber (2 lines)
+        return text.length() > 0 && text.length() % 4 == 0
+            && text.length() - body <= 2
+            && RtTransaction.PAD.span(text, body) == text.length();
+    }
+
+    /**
+     * Validate beneficiary.
+     * @param fields Fields of the transaction
+     * @return Beneficiary
+     * @throws IOException If the beneficiary is invalid
+     */
+    private static String bnf(final Fields fields) throws IOException {
+        final String bnf =
+            // @checkstyle MagicNumberCheck (1 line)
+            fields.text(4);
+        // @checkstyle MagicNumber (1 line)
+        if (!RtTransaction.HEX.covers(bnf, 16)) {
             throw new IOException(
                 new UncheckedText(
                     new FormattedText(
@@ -209,23 +300,24 @@ final class RtTransaction implements Transaction {
         return bnf;
     }
 
-    @Override
-    public String details() throws IOException {
-        final String dtls = new UncheckedText(
-            new IoChecked<>(
-                new ItemAt<>(
-                    //@checkstyle MagicNumberCheck (1 line)
-                    5, new Split(this.transaction.value(), ";")
-                )
-            ).value()
-        ).asString();
-        if (!RtTransaction.DTLS.matcher(dtls).matches()) {
+    /**
+     * Validate details.
+     * @param fields Fields of the transaction
+     * @return Details
+     * @throws IOException If the details are invalid
+     */
+    private static String details(final Fields fields) throws IOException {
+        final String dtls =
+            // @checkstyle MagicNumberCheck (1 line)
+            fields.text(5);
+        if (dtls.isEmpty() || dtls.length() > RtTransaction.DTLS_MAX
+            || RtTransaction.DTLS.span(dtls, 0) != dtls.length()) {
             throw new IOException(
                 new UncheckedText(
                     new FormattedText(
                         // @checkstyle LineLength (1 line)
                         "Invalid details string '%s', does not match pattern '%s'",
-                        dtls, RtTransaction.DTLS
+                        dtls, "[A-Za-z0-9 -.]{1,512}"
                     )
                 ).asString()
             );
@@ -233,19 +325,18 @@ final class RtTransaction implements Transaction {
         return dtls;
     }
 
-    @Override
-    public String signature() throws IOException {
-        final String sign = new UncheckedText(
-            new IoChecked<>(
-                new ItemAt<>(
-                    //@checkstyle MagicNumberCheck (1 line)
-                    6, new Split(this.transaction.value(), ";")
-                )
-            ).value()
-        ).asString();
-        // @checkstyle MagicNumber (1 line)
-        if (sign.length() != 684
-            || !RtTransaction.SIGN.matcher(sign).matches()) {
+    /**
+     * Validate signature.
+     * @param fields Fields of the transaction
+     * @return Signature
+     * @throws IOException If the signature is invalid
+     */
+    private static String signature(final Fields fields) throws IOException {
+        final String sign =
+            // @checkstyle MagicNumberCheck (1 line)
+            fields.text(6);
+        if (sign.length() != RtTransaction.SIGN_LENGTH
+            || !RtTransaction.signed(sign)) {
             throw new IOException(
                 new UncheckedText(
                     new FormattedText(
@@ -259,24 +350,243 @@ final class RtTransaction implements Transaction {
         return sign;
     }
 
-    @Override
-    public String toString() {
-        return new Unchecked<>(this.transaction).value();
+    /**
+     * Check base64 with up to three padding characters, the way a
+     * signature is written.
+     * @param text The text
+     * @return TRUE if it is such base64
+     */
+    static boolean signed(final CharSequence text) {
+        final int body = RtTransaction.BASE64.span(text, 0);
+        // @checkstyle MagicNumber (1 line)
+        return body > 0 && text.length() - body <= 3
+            && RtTransaction.PAD.span(text, body) == text.length();
     }
 
-    @Override
-    public boolean equals(final Object obj) {
-        if (this == obj) {
-            return true;
+    /**
+     * Line of a transaction, with its fields decoded on first access, once
+     * for all threads.
+     * @since 1.0
+     */
+    private static final class Line {
+
+        /**
+         * The line.
+         */
+        private final CharSequence text;
+
+        /**
+         * Fields of the line, decoded.
+         */
+        private final AtomicReference<RtTransaction.Decoded> decoded;
+
+        /**
+         * Ctor.
+         * @param text The line
+         */
+        Line(final CharSequence text) {
+            this.text = text;
+            this.decoded = new AtomicReference<>();
         }
-        if (obj == null || this.getClass() != obj.getClass()) {
-            return false;
+
+        /**
+         * Decoded fields, checking that the one asked for is valid.
+         * @param idx Position of the field asked for
+         * @return Decoded fields
+         * @throws IOException If the field is invalid
+         */
+        RtTransaction.Decoded fields(final int idx) throws IOException {
+            RtTransaction.Decoded fields = this.decoded.get();
+            if (fields == null) {
+                this.decoded.compareAndSet(
+                    null, new RtTransaction.Decoded(this.text)
+                );
+                fields = this.decoded.get();
+            }
+            fields.check(idx);
+            return fields;
+        }
+
+        @Override
+        public String toString() {
+            try {
+                RtTransaction.broken(this.text);
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return this.text.toString();
         }
-        return this.transaction.equals(((RtTransaction) obj).transaction);
     }
 
-    @Override
-    public int hashCode() {
-        return this.transaction.hashCode();
+    /**
+     * Fields of a transaction, decoded, with the errors of those that are
+     * invalid.
+     * @since 1.0
+     */
+    private static final class Decoded {
+
+        /**
+         * Errors of the fields, NULL where the field is valid.
+         */
+        private final Exception[] errors;
+
+        /**
+         * Id.
+         */
+        private final int ident;
+
+        /**
+         * Epoch second of the time.
+         */
+        private final long epoch;
+
+        /**
+         * Nanosecond of the time.
+         */
+        private final int nano;
+
+        /**
+         * Zone offset of the time, in seconds.
+         */
+        private final int offset;
+
+        /**
+         * Amount.
+         */
+        private final long amnt;
+
+        /**
+         * Prefix.
+         */
+        private final String pfx;
+
+        /**
+         * Beneficiary.
+         */
+        private final String beneficiary;
+
+        /**
+         * Details.
+         */
+        private final String dtls;
+
+        /**
+         * Signature.
+         */
+        private final String sign;
+
+        /**
+         * Ctor.
+         * @param line The line
+         */
+        Decoded(final CharSequence line) {
+            this(new Fields(line), RtTransaction.Decoded.errors(line));
+        }
+
+        /**
+         * Ctor.
+         * @param fields Fields of the line
+         * @param errors Errors of the fields, filled as they are decoded
+         * @checkstyle MagicNumberCheck (30 lines)
+         */
+        private Decoded(final Fields fields, final Exception[] errors) {
+            this(
+                fields, errors,
+                RtTransaction.Decoded.decode(
+                    fields, errors, 1, RtTransaction::time,
+                    OffsetDateTime.MIN
+                )
+            );
+        }
+
+        /**
+         * Ctor.
+         * @param fields Fields of the line
+         * @param errors Errors of the fields, filled as they are decoded
+         * @param time Time, decoded
+         * @checkstyle MagicNumberCheck (30 lines)
+         */
+        private Decoded(final Fields fields, final Exception[] errors,
+            final OffsetDateTime time) {
+            this.ident = RtTransaction.Decoded.decode(
+                fields, errors, 0, RtTransaction::ident, 0
+            );
+            this.epoch = time.toEpochSecond();
+            this.nano = time.getNano();
+            this.offset = time.getOffset().getTotalSeconds();
+            this.amnt = RtTransaction.Decoded.decode(
+                fields, errors, 2, RtTransaction::amount, 0L
+            );
+            this.pfx = RtTransaction.Decoded.decode(
+                fields, errors, 3, RtTransaction::prefix, ""
+            );
+            this.beneficiary = RtTransaction.Decoded.decode(
+                fields, errors, 4, RtTransaction::bnf, ""
+            );
+            this.dtls = RtTransaction.Decoded.decode(
+                fields, errors, 5, RtTransaction::details, ""
+            );
+            this.sign = RtTransaction.Decoded.decode(
+                fields, errors, 6, RtTransaction::signature, ""
+            );
+            this.errors = errors;
+        }
+
+        /**
+         * Throw the error of the field, if it's invalid.
+         * @param idx Position of the field
+         * @throws IOException If the field is invalid
+         */
+        void check(final int idx) throws IOException {
+            final Exception error = this.errors[idx];
+            if (error instanceof IOException) {
+                throw new IOException(error.getMessage(), error);
+            }
+            if (error != null) {
+                throw (RuntimeException) error;
+            }
+        }
+
+        /**
+         * Errors of the fields, all of them the error of the line if it
+         * doesn't have all fields.
+         * @param line The line
+         * @return Errors
+         */
+        private static Exception[] errors(final CharSequence line) {
+            final Exception[] errors = new Exception[RtTransaction.SIZE];
+            try {
+                RtTransaction.broken(line);
+            } catch (final IOException ex) {
+                Arrays.fill(errors, ex);
+            }
+            return errors;
+        }
+
+        /**
+         * Decode a field, keeping its error, if it's invalid.
+         * @param fields Fields of the line
+         * @param errors Errors of the fields
+         * @param idx Position of the field
+         * @param decode How to decode it
+         * @param fallback Value of an invalid field
+         * @param <T> Type of the field
+         * @return The field, decoded
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        private static <T> T decode(final Fields fields,
+            final Exception[] errors, final int idx,
+            final Func<Fields, T> decode, final T fallback) {
+            T value = fallback;
+            if (errors[idx] == null) {
+                try {
+                    value = decode.apply(fields);
+                // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception ex) {
+                    errors[idx] = ex;
+                }
+            }
+            return value;
+        }
     }
 }
@@ -8,6 +8,7 @@ import com.github.victornoel.eo.GenerateEnvelope;
 import org.cactoos.Text;
 import org.cactoos.iterable.Joined;
 import org.cactoos.iterable.Mapped;
+import org.cactoos.number.SumOf;
 
 /**
  * A remote node's score, equal to its number of suffixes.
@@ -29,7 +30,26 @@ public interface Score extends Comparable<Score> {
     Iterable<Text> suffixes();
 
     /**
-     * Summary of multiple {@link Score}.
+     * The text the chain of suffixes starts from: the time, host, port and
+     * invoice of the node that made the score, separated by spaces. Empty
+     * for scores that don't come from a single node.
+     * @return Prefix of the suffixes
+     */
+    String prefix();
+
+    /**
+     * The value of this score, which is the number of its suffixes. Not
+     * to be confused with the strength of a proof of work, see
+     * {@link Proof}, which is how many zeros end every suffix. It is
+     * counted once and kept, so comparing scores costs nothing more than
+     * comparing two integers.
+     * @return Number of suffixes
+     */
+    int value();
+
+    /**
+     * Summary of multiple {@link Score}, its value is the sum of
+     * their values.
      * @since 1.0
      */
     final class Summed extends ScoreEnvelope {
@@ -40,7 +60,8 @@ public interface Score extends Comparable<Score> {
          */
         Summed(final Iterable<Score> scores) {
             super(new RtScore(
-                new Joined<>(new Mapped<>(Score::suffixes, scores))
+                new Joined<>(new Mapped<>(Score::suffixes, scores)),
+                () -> new SumOf(new Mapped<>(Score::value, scores)).intValue()
             ));
         }
     }
@@ -0,0 +1,106 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Migration of a flat directory of wallets to the {@link Layout.Sharded}
+ * layout, in place.
+ *
+ * <p>Every wallet file is moved atomically to its shard, so a migration
+ * that is interrupted leaves every wallet in one place or the other, and
+ * running it again finishes the job. Its balance checkpoint and its index
+ * go along with it, before it, so they are not built again. Files that
+ * are not named after a wallet id are left where they are. A wallet that
+ * is already in its shard is never replaced: the migration fails, and the
+ * two files are left for someone to look at.
+ *
+ * @since 1.0
+ */
+public final class Sharding {
+
+    /**
+     * The directory.
+     */
+    private final Path dir;
+
+    /**
+     * Wallets file extension.
+     */
+    private final String ext;
+
+    /**
+     * Ctor.
+     * @param dir The directory
+     */
+    public Sharding(final Path dir) {
+        this(dir, "z");
+    }
+
+    /**
+     * Ctor.
+     * @param dir The directory
+     * @param ext Wallets file extension
+     */
+    public Sharding(final Path dir, final String ext) {
+        this.dir = dir;
+        this.ext = ext;
+    }
+
+    /**
+     * Move every wallet file of the directory to its shard.
+     * @return How many files were moved
+     * @throws IOException If a file can't be moved
+     */
+    public int migrate() throws IOException {
+        final Layout sharded = new Layout.Sharded(() -> this.dir, this.ext);
+        int moved = 0;
+        for (final Path file : new Catalog(() -> this.dir, this.ext).files()) {
+            final Optional<Long> id = Catalog.id(file, this.ext);
+            if (id.isPresent() && Files.isRegularFile(file)) {
+                final Path target = sharded.path(id.get());
+                if (Files.exists(target)) {
+                    throw new IOException(
+                        new UncheckedText(
+                            new FormattedText(
+                                "Wallet %s is already in its shard as %s",
+                                file, target
+                            )
+                        ).asString()
+                    );
+                }
+                Files.createDirectories(target.getParent());
+                Sharding.move(
+                    Checkpoint.sidecar(file), Checkpoint.sidecar(target)
+                );
+                Sharding.move(Offsets.sidecar(file), Offsets.sidecar(target));
+                Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+                moved += 1;
+            }
+        }
+        return moved;
+    }
+
+    /**
+     * Move a file kept next to a wallet, if there is one. It replaces
+     * a file left in the shard by a migration that was interrupted.
+     * @param file The file
+     * @param target Where it goes
+     * @throws IOException If it can't be moved
+     */
+    private static void move(final Path file, final Path target)
+        throws IOException {
+        if (Files.exists(file)) {
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+}
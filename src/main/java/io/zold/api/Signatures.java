@@ -0,0 +1,232 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Map;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Signatures of negative transactions, verified against the RSA key of
+ * the paying wallet.
+ *
+ * <p>As in the Zold whitepaper, the signed text is the key, the wallet
+ * id, and the id, time, amount, prefix, beneficiary and details of the
+ * transaction, separated by spaces; the signature is SHA256withRSA.
+ * Positive transactions are signed by other wallets and are not
+ * verified here.
+ *
+ * <p>Every key is decoded only once, every thread verifies with its own
+ * {@link Signature}, and verdicts are kept by the signed text and the
+ * signature, so a transaction seen again, in any copy of the wallet, is
+ * not verified again. Only the keys and verdicts used most recently are
+ * kept, up to the capacity.
+ *
+ * @since 1.0
+ */
+public final class Signatures {
+
+    /**
+     * Keys and verdicts kept, by default.
+     */
+    private static final int CAPACITY = 4096;
+
+    /**
+     * Keys decoded so far.
+     */
+    private final Map<String, PublicKey> keys;
+
+    /**
+     * Verdicts so far, by signed text and signature.
+     */
+    private final Map<String, Boolean> verdicts;
+
+    /**
+     * Verifiers, one per thread.
+     */
+    private final ThreadLocal<Signature> verifiers;
+
+    /**
+     * Ctor.
+     */
+    public Signatures() {
+        this(Signatures.CAPACITY);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity How many keys and verdicts to keep
+     */
+    public Signatures(final int capacity) {
+        this(capacity, ThreadLocal.withInitial(Signatures::rsa));
+    }
+
+    /**
+     * Ctor.
+     * @param capacity How many keys and verdicts to keep
+     * @param verifiers Verifiers, one per thread
+     */
+    Signatures(final int capacity, final ThreadLocal<Signature> verifiers) {
+        this(
+            Collections.synchronizedMap(new Recent<>(capacity)),
+            Collections.synchronizedMap(new Recent<>(capacity)),
+            verifiers
+        );
+    }
+
+    /**
+     * Ctor.
+     * @param keys Keys decoded so far
+     * @param verdicts Verdicts so far, by signed text and signature
+     * @param verifiers Verifiers, one per thread
+     */
+    private Signatures(final Map<String, PublicKey> keys,
+        final Map<String, Boolean> verdicts,
+        final ThreadLocal<Signature> verifiers) {
+        this.keys = keys;
+        this.verdicts = verdicts;
+        this.verifiers = verifiers;
+    }
+
+    /**
+     * Whether the transaction is signed by the owner of the wallet.
+     * @param id Id of the wallet
+     * @param key RSA public key of the wallet, in base64
+     * @param txn The transaction
+     * @return TRUE if it's positive, or its signature is valid
+     * @throws IOException If the key or the transaction is broken
+     */
+    public boolean valid(final long id, final String key,
+        final Transaction txn) throws IOException {
+        boolean valid = true;
+        if (txn.amount() < 0L) {
+            final String body = Signatures.body(id, key, txn);
+            final String verdict = String.join(" ", body, txn.signature());
+            final Boolean known = this.verdicts.get(verdict);
+            if (known == null) {
+                valid = this.verify(this.key(key), body, txn.signature());
+                this.verdicts.put(verdict, valid);
+            } else {
+                valid = known;
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * The key, decoded once.
+     * @param key RSA public key, in base64
+     * @return The key
+     * @throws IOException If it's not a key
+     */
+    private PublicKey key(final String key) throws IOException {
+        try {
+            return this.keys.computeIfAbsent(
+                key,
+                text -> {
+                    try {
+                        return Signatures.decode(text);
+                    } catch (final IOException ex) {
+                        throw new UncheckedIOException(ex);
+                    }
+                }
+            );
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * The signed text.
+     * @param id Id of the wallet
+     * @param key The key, in base64
+     * @param txn The transaction
+     * @return The text
+     * @throws IOException If the transaction is broken
+     */
+    private static String body(final long id, final String key,
+        final Transaction txn) throws IOException {
+        return String.join(
+            " ",
+            key,
+            String.format("%016x", id),
+            Integer.toString(txn.id()),
+            DateTimeFormatter.ISO_INSTANT.format(
+                txn.time().withZoneSameInstant(ZoneOffset.UTC)
+            ),
+            Long.toString(txn.amount()),
+            txn.prefix(),
+            txn.bnf(),
+            txn.details()
+        );
+    }
+
+    /**
+     * Verify the signature.
+     * @param pub The key, decoded
+     * @param body The signed text
+     * @param signature The signature, in base64
+     * @return TRUE if valid
+     */
+    private boolean verify(final PublicKey pub, final String body,
+        final String signature) {
+        final Signature rsa = this.verifiers.get();
+        boolean valid;
+        try {
+            rsa.initVerify(pub);
+            rsa.update(body.getBytes(StandardCharsets.UTF_8));
+            valid = rsa.verify(Base64.getMimeDecoder().decode(signature));
+        } catch (final GeneralSecurityException | IllegalArgumentException ex) {
+            valid = false;
+        }
+        return valid;
+    }
+
+    /**
+     * Decode the key.
+     * @param key RSA public key, in base64
+     * @return The key
+     * @throws IOException If it's not a key
+     */
+    private static PublicKey decode(final String key) throws IOException {
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(
+                new X509EncodedKeySpec(Base64.getMimeDecoder().decode(key))
+            );
+        } catch (final GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IOException(
+                new UncheckedText(
+                    new FormattedText("Invalid RSA key '%s'", key)
+                ).asString(),
+                ex
+            );
+        }
+    }
+
+    /**
+     * New SHA256withRSA verifier.
+     * @return Verifier
+     */
+    private static Signature rsa() {
+        try {
+            return Signature.getInstance("SHA256withRSA");
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
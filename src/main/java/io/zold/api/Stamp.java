@@ -0,0 +1,95 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+import org.cactoos.text.FormattedText;
+import org.cactoos.text.UncheckedText;
+
+/**
+ * Stamp of the start of a wallet file, to tell whether what was read from
+ * it up to an offset is still there.
+ *
+ * <p>It's a checksum of the first bytes of the file, where its header is,
+ * and of the bytes right before the offset, where the last line read
+ * ends. A file replaced by another one, even of the same or a greater
+ * length, has other bytes there, while lines appended after the offset
+ * don't change the stamp.
+ *
+ * @since 1.0
+ */
+final class Stamp {
+
+    /**
+     * Bytes read at the start of the file and before the offset.
+     */
+    private static final int WINDOW = 256;
+
+    /**
+     * The wallet file.
+     */
+    private final Path path;
+
+    /**
+     * Ctor.
+     * @param path The wallet file
+     */
+    Stamp(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * The stamp of the file up to the offset.
+     * @param offset Where what was read ends
+     * @return The stamp
+     * @throws IOException If the file can't be read
+     */
+    long value(final long offset) throws IOException {
+        final CRC32 crc = new CRC32();
+        try (FileChannel channel = FileChannel.open(
+            this.path, StandardOpenOption.READ
+        )) {
+            final long head = Math.min(offset, Stamp.WINDOW);
+            this.update(crc, channel, 0L, head);
+            this.update(
+                crc, channel, Math.max(head, offset - Stamp.WINDOW), offset
+            );
+        }
+        return crc.getValue();
+    }
+
+    /**
+     * Add bytes of the file to the checksum.
+     * @param crc The checksum
+     * @param channel The file
+     * @param start Where the bytes start
+     * @param end Where the bytes end
+     * @throws IOException If the file is shorter
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private void update(final CRC32 crc, final FileChannel channel,
+        final long start, final long end) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate((int) (end - start));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, start + buffer.position()) < 0) {
+                throw new IOException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "File %s is shorter than %d bytes",
+                            this.path, end
+                        )
+                    ).asString()
+                );
+            }
+        }
+        buffer.flip();
+        crc.update(buffer.array(), 0, buffer.limit());
+    }
+}
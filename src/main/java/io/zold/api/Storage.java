@@ -0,0 +1,42 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.nio.file.Path;
+
+/**
+ * How the wallet files of {@link WalletsIn} are read.
+ * @since 1.0
+ */
+public enum Storage {
+
+    /**
+     * Read line by line, see {@link Wallet.File}.
+     */
+    FILE,
+
+    /**
+     * Mapped into memory, see {@link Wallet.Mmap}.
+     */
+    MAPPED;
+
+    /**
+     * Wallet kept in the file.
+     * @param path Path of wallet
+     * @param headers Headers of wallet files, shared between wallets
+     * @param journals Journals of wallet files, shared between wallets
+     * @return The wallet
+     */
+    Wallet wallet(final Path path, final Headers headers,
+        final Journals journals) {
+        final Wallet wallet;
+        if (this == Storage.MAPPED) {
+            wallet = new Wallet.Mmap(path, headers, journals);
+        } else {
+            wallet = new Wallet.File(path, headers, journals);
+        }
+        return wallet;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.nio.file.Path;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Locks of wallet files, striped.
+ *
+ * <p>A file always gets the same lock, picked by the hash of its
+ * absolute path, so writers of one wallet wait for each other while
+ * writers of other wallets mostly don't. There is no lock per file to
+ * create or forget, and no global lock.
+ *
+ * @since 1.0
+ */
+final class Stripes {
+
+    /**
+     * The locks.
+     */
+    private final Lock[] locks;
+
+    /**
+     * Ctor.
+     */
+    Stripes() {
+        // @checkstyle MagicNumberCheck (1 line)
+        this(64);
+    }
+
+    /**
+     * Ctor.
+     * @param count How many locks, a power of two
+     */
+    Stripes(final int count) {
+        this.locks = new Lock[count];
+        for (int idx = 0; idx < count; ++idx) {
+            this.locks[idx] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Lock of a file.
+     * @param path The file
+     * @return Its lock
+     */
+    Lock lock(final Path path) {
+        final int hash = path.toAbsolutePath().normalize().hashCode();
+        // @checkstyle MagicNumberCheck (1 line)
+        return this.locks[(hash ^ hash >>> 16) & this.locks.length - 1];
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Ledger lines of a wallet file after an offset, with their offsets.
+ *
+ * <p>Reading from the start of the file, the header and the blank line
+ * after it are skipped. The offset returned is where the last whole line
+ * ends, so whatever was built from the lines can be kept and continued
+ * from there next time. A last line without a line break is visited too,
+ * but it's not whole and its end is not returned.
+ *
+ * @since 1.0
+ */
+final class Tail {
+
+    /**
+     * Lines in the header, with the blank line after it.
+     */
+    private static final int HEADER = 5;
+
+    /**
+     * The wallet file.
+     */
+    private final Path path;
+
+    /**
+     * Ctor.
+     * @param path The wallet file
+     */
+    Tail(final Path path) {
+        this.path = path;
+    }
+
+    /**
+     * Visit ledger lines between two offsets.
+     * @param from Where to start, at the start of a line
+     * @param end Where to stop
+     * @param visitor What to do with a line
+     * @return Where the last whole ledger line ends
+     * @throws IOException If the file can't be read
+     */
+    long read(final long from, final long end, final Tail.Visitor visitor)
+        throws IOException {
+        int skip = 0;
+        if (from == 0L) {
+            skip = Tail.HEADER;
+        }
+        long offset = from;
+        long pos = from;
+        long start = from;
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        try (InputStream input = new BufferedInputStream(
+            Files.newInputStream(this.path)
+        )) {
+            long skipped = 0L;
+            while (skipped < from) {
+                final long step = input.skip(from - skipped);
+                if (step <= 0L) {
+                    break;
+                }
+                skipped += step;
+            }
+            while (pos < end) {
+                final int chr = input.read();
+                if (chr < 0) {
+                    break;
+                }
+                pos += 1L;
+                if (chr == '\n') {
+                    if (skip > 0) {
+                        skip -= 1;
+                    } else if (line.size() > 0) {
+                        visitor.visit(start, Tail.text(line), true);
+                    }
+                    line.reset();
+                    if (skip == 0) {
+                        offset = pos;
+                    }
+                    start = pos;
+                } else if (chr != '\r') {
+                    line.write(chr);
+                }
+            }
+        }
+        if (skip == 0 && line.size() > 0) {
+            visitor.visit(start, Tail.text(line), false);
+        }
+        return offset;
+    }
+
+    /**
+     * Text of a line.
+     * @param line Bytes of the line
+     * @return Text
+     */
+    private static String text(final ByteArrayOutputStream line) {
+        return new String(line.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * What to do with a line.
+     * @since 1.0
+     */
+    interface Visitor {
+
+        /**
+         * Visit a line.
+         * @param start Where the line starts
+         * @param line The line, without line break
+         * @param whole Whether the line ends with a line break
+         * @throws IOException If the line is broken
+         */
+        void visit(long start, String line, boolean whole) throws IOException;
+    }
+}
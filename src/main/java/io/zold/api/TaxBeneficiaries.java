@@ -5,10 +5,10 @@
 package io.zold.api;
 
 import java.util.Comparator;
+import java.util.function.Predicate;
 import org.cactoos.iterable.Filtered;
 import org.cactoos.iterable.IterableEnvelope;
 import org.cactoos.iterable.Sorted;
-import org.cactoos.scalar.LengthOf;
 
 /**
  * {@link Remote} nodes that should receive taxes.
@@ -19,14 +19,33 @@ public final class TaxBeneficiaries extends IterableEnvelope<Remote> {
     /**
      * Ctor.
      * @param nodes Remote nodes to select from
-     * @checkstyle ConstructorsCodeFreeCheck (10 lines)
      */
     public TaxBeneficiaries(final Iterable<Remote> nodes) {
+        this(nodes, score -> true);
+    }
+
+    /**
+     * Ctor.
+     * @param nodes Remote nodes to select from
+     * @param proof Proof of work the score of every node must have
+     */
+    public TaxBeneficiaries(final Iterable<Remote> nodes, final Proof proof) {
+        this(nodes, proof::valid);
+    }
+
+    /**
+     * Ctor.
+     * @param nodes Remote nodes to select from
+     * @param valid Whether the score of a node is genuine
+     * @checkstyle ConstructorsCodeFreeCheck (10 lines)
+     */
+    private TaxBeneficiaries(final Iterable<Remote> nodes,
+        final Predicate<Score> valid) {
         super(new Sorted<>(
             Comparator.comparing(Remote::score),
             new Filtered<>(
                 // @checkstyle MagicNumberCheck (1 line)
-                n -> new LengthOf(n.score().suffixes()).value().intValue() >= 16,
+                n -> n.score().value() >= 16 && valid.test(n.score()),
                 nodes
             )
         ));
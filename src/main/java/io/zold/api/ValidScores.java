@@ -0,0 +1,150 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+
+/**
+ * Scores with a valid {@link Proof}, in their original order.
+ *
+ * <p>Scores are verified in parallel on a fork/join pool, the common one
+ * by default, and each one is hashed only once by the proof.
+ *
+ * @since 1.0
+ */
+public final class ValidScores extends IterableEnvelope<Score> {
+
+    /**
+     * Ctor.
+     * @param scores Scores to verify
+     * @param proof The proof
+     */
+    public ValidScores(final Iterable<Score> scores, final Proof proof) {
+        this(scores, proof, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param scores Scores to verify
+     * @param proof The proof
+     * @param pool Where scores are verified
+     */
+    public ValidScores(final Iterable<Score> scores, final Proof proof,
+        final ForkJoinPool pool) {
+        super(
+            new IterableOf<>(
+                () -> ValidScores.valid(new ListOf<>(scores), proof, pool)
+                    .iterator()
+            )
+        );
+    }
+
+    /**
+     * Verify the scores.
+     * @param scores Scores to verify
+     * @param proof The proof
+     * @param pool Where scores are verified
+     * @return Valid scores
+     */
+    private static List<Score> valid(final List<Score> scores,
+        final Proof proof, final ForkJoinPool pool) {
+        final boolean[] verdicts = new boolean[scores.size()];
+        pool.invoke(
+            new ValidScores.Task(scores, proof, verdicts, 0, scores.size())
+        );
+        final List<Score> valid = new ArrayList<>(scores.size());
+        for (int idx = 0; idx < verdicts.length; ++idx) {
+            if (verdicts[idx]) {
+                valid.add(scores.get(idx));
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Verification of a range of scores, split in halves until single
+     * scores are left.
+     * @since 1.0
+     */
+    private static final class Task extends RecursiveAction {
+
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Scores to verify.
+         */
+        private final transient List<Score> scores;
+
+        /**
+         * The proof.
+         */
+        private final transient Proof proof;
+
+        /**
+         * Verdicts, by position of the score.
+         */
+        private final boolean[] verdicts;
+
+        /**
+         * Start of the range, inclusive.
+         */
+        private final int start;
+
+        /**
+         * End of the range, exclusive.
+         */
+        private final int end;
+
+        /**
+         * Ctor.
+         * @param scores Scores to verify
+         * @param proof The proof
+         * @param verdicts Verdicts, by position of the score
+         * @param start Start of the range, inclusive
+         * @param end End of the range, exclusive
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Task(final List<Score> scores, final Proof proof,
+            final boolean[] verdicts, final int start, final int end) {
+            super();
+            this.scores = scores;
+            this.proof = proof;
+            this.verdicts = verdicts;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.end - this.start == 1) {
+                this.verdicts[this.start] = this.proof.valid(
+                    this.scores.get(this.start)
+                );
+            } else if (this.end > this.start) {
+                final int middle = (this.start + this.end) >>> 1;
+                ForkJoinTask.invokeAll(
+                    new ValidScores.Task(
+                        this.scores, this.proof, this.verdicts,
+                        this.start, middle
+                    ),
+                    new ValidScores.Task(
+                        this.scores, this.proof, this.verdicts,
+                        middle, this.end
+                    )
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import org.cactoos.iterable.IterableEnvelope;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+
+/**
+ * Transactions of a ledger with valid {@link Signatures}, in their
+ * original order. A negative transaction that isn't signed by the owner
+ * of the wallet, or can't be read, is left out.
+ *
+ * <p>Transactions are verified in parallel on a fork/join pool, the
+ * common one by default.
+ *
+ * @since 1.0
+ */
+public final class ValidTransactions extends IterableEnvelope<Transaction> {
+
+    /**
+     * Ctor.
+     * @param id Id of the wallet
+     * @param key RSA public key of the wallet, in base64
+     * @param ledger Transactions to verify
+     * @param signatures The signatures
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public ValidTransactions(final long id, final String key,
+        final Iterable<Transaction> ledger, final Signatures signatures) {
+        this(id, key, ledger, signatures, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Ctor.
+     * @param id Id of the wallet
+     * @param key RSA public key of the wallet, in base64
+     * @param ledger Transactions to verify
+     * @param signatures The signatures
+     * @param pool Where transactions are verified
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    public ValidTransactions(final long id, final String key,
+        final Iterable<Transaction> ledger, final Signatures signatures,
+        final ForkJoinPool pool) {
+        super(
+            new IterableOf<>(
+                () -> ValidTransactions.valid(
+                    new ListOf<>(ledger),
+                    txn -> signatures.valid(id, key, txn),
+                    pool
+                ).iterator()
+            )
+        );
+    }
+
+    /**
+     * Verify the transactions.
+     * @param ledger Transactions to verify
+     * @param check Verification of one transaction
+     * @param pool Where transactions are verified
+     * @return Valid transactions
+     */
+    private static List<Transaction> valid(final List<Transaction> ledger,
+        final ValidTransactions.Check check, final ForkJoinPool pool) {
+        final boolean[] verdicts = new boolean[ledger.size()];
+        pool.invoke(
+            new ValidTransactions.Task(ledger, check, verdicts, 0, ledger.size())
+        );
+        final List<Transaction> valid = new ArrayList<>(ledger.size());
+        for (int idx = 0; idx < verdicts.length; ++idx) {
+            if (verdicts[idx]) {
+                valid.add(ledger.get(idx));
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * Verification of one transaction.
+     * @since 1.0
+     */
+    private interface Check {
+
+        /**
+         * Whether the transaction is valid.
+         * @param txn The transaction
+         * @return TRUE if it is
+         * @throws IOException If it can't be read
+         */
+        boolean valid(Transaction txn) throws IOException;
+    }
+
+    /**
+     * Verification of a range of transactions, split in halves until
+     * single transactions are left.
+     * @since 1.0
+     */
+    private static final class Task extends RecursiveAction {
+
+        /**
+         * Serialization marker.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Transactions to verify.
+         */
+        private final transient List<Transaction> ledger;
+
+        /**
+         * Verification of one transaction.
+         */
+        private final transient ValidTransactions.Check check;
+
+        /**
+         * Verdicts, by position of the transaction.
+         */
+        private final boolean[] verdicts;
+
+        /**
+         * Start of the range, inclusive.
+         */
+        private final int start;
+
+        /**
+         * End of the range, exclusive.
+         */
+        private final int end;
+
+        /**
+         * Ctor.
+         * @param ledger Transactions to verify
+         * @param check Verification of one transaction
+         * @param verdicts Verdicts, by position of the transaction
+         * @param start Start of the range, inclusive
+         * @param end End of the range, exclusive
+         * @checkstyle ParameterNumberCheck (4 lines)
+         */
+        Task(final List<Transaction> ledger,
+            final ValidTransactions.Check check, final boolean[] verdicts,
+            final int start, final int end) {
+            super();
+            this.ledger = ledger;
+            this.check = check;
+            this.verdicts = verdicts;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.end - this.start == 1) {
+                try {
+                    this.verdicts[this.start] = this.check.valid(
+                        this.ledger.get(this.start)
+                    );
+                } catch (final IOException ex) {
+                    this.verdicts[this.start] = false;
+                }
+            } else if (this.end > this.start) {
+                final int middle = (this.start + this.end) >>> 1;
+                ForkJoinTask.invokeAll(
+                    new ValidTransactions.Task(
+                        this.ledger, this.check, this.verdicts,
+                        this.start, middle
+                    ),
+                    new ValidTransactions.Task(
+                        this.ledger, this.check, this.verdicts,
+                        middle, this.end
+                    )
+                );
+            }
+        }
+    }
+}
@@ -5,31 +5,28 @@
 package io.zold.api;
 
 import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import org.cactoos.iterable.Filtered;
 import org.cactoos.iterable.IterableOf;
-import org.cactoos.iterable.Joined;
 import org.cactoos.iterable.Mapped;
 import org.cactoos.iterable.Skipped;
 import org.cactoos.list.ListOf;
-import org.cactoos.scalar.Checked;
-import org.cactoos.scalar.Or;
-import org.cactoos.scalar.Unchecked;
 import org.cactoos.text.FormattedText;
-import org.cactoos.text.Split;
-import org.cactoos.text.TextOf;
 import org.cactoos.text.UncheckedText;
 
 /**
  * Wallet.
  * @since 0.1
  * @todo #16:30min Merge method should update transactions
- *  in wallet's file and return concrete implementation not a fake one.
+ *  in wallet's file, now it only returns them in a Wallet.Memory.
  *  Beware that tests should be refactored to take care of file cleanup
  *  after each case that merges wallets.
  */
@@ -67,11 +64,52 @@ public interface Wallet {
      */
     Iterable<Transaction> ledger();
 
+    /**
+     * Transactions of this wallet's ledger that match the query.
+     * @param query The query
+     * @return Transactions, in the order of the ledger
+     */
+    default Iterable<Transaction> ledger(final Query query) {
+        return new Filtered<>(query::matches, this.ledger());
+    }
+
+    /**
+     * Transaction of this wallet's ledger.
+     * @param id Transaction id
+     * @return The first transaction with the id
+     * @throws IOException If there is no such transaction
+     */
+    default Transaction transaction(final int id) throws IOException {
+        return new Lookup(this.id(), this.ledger()).transaction(id);
+    }
+
+    /**
+     * Transactions of this wallet's ledger not older than the time.
+     * @param time The time
+     * @return Transactions, in the order of the ledger
+     * @throws IOException If the ledger can't be read
+     */
+    default Iterable<Transaction> ledgerSince(final ZonedDateTime time)
+        throws IOException {
+        return new Lookup(this.id(), this.ledger()).since(time);
+    }
+
     /**
      * This wallet's RSA key.
      * @return This wallet's RSA key
+     * @throws IOException If fails
      */
-    String key();
+    String key() throws IOException;
+
+    /**
+     * This wallet's balance, in zents. As in the whitepaper, a negative
+     * transaction that would make the balance negative is ignored.
+     * @return Balance
+     * @throws IOException If the ledger can't be read
+     */
+    default long balance() throws IOException {
+        return new Balance(this.ledger()).value();
+    }
 
     /**
      * A Fake {@link Wallet}.
@@ -167,122 +205,587 @@ public interface Wallet {
      */
     final class File implements Wallet {
 
+        /**
+         * Journals of wallet files, shared by wallets made without them.
+         */
+        static final Journals JOURNALS = new Journals();
+
+        /**
+         * Headers of wallet files, shared by wallets made without them.
+         */
+        static final Headers HEADERS = new Headers();
+
+        /**
+         * Signatures verified by merges of wallet files, shared by wallets
+         * made without them, so a ledger pulled again is not verified
+         * again.
+         */
+        static final Signatures SIGNATURES = new Signatures();
+
         /**
          * Path of this wallet.
          */
         private final Path path;
 
+        /**
+         * Headers of wallet files.
+         */
+        private final Headers headers;
+
+        /**
+         * Journals of wallet files.
+         */
+        private final Journals journals;
+
+        /**
+         * Lines of the wallet file.
+         */
+        private final Iterable<? extends CharSequence> lines;
+
+        /**
+         * Signatures verified so far.
+         */
+        private final Signatures signatures;
+
+        /**
+         * Balance of the wallet, kept next to its file.
+         */
+        private final Checkpoint checkpoint;
+
+        /**
+         * Index of the ledger, kept next to the file.
+         */
+        private final Offsets offsets;
+
         /**
          * Ctor.
          * @param path Path of wallet
          */
         File(final Path path) {
+            this(path, Wallet.File.HEADERS, Wallet.File.JOURNALS);
+        }
+
+        /**
+         * Ctor.
+         * @param path Path of wallet
+         * @param headers Headers of wallet files, shared between wallets
+         * @param journals Journals of wallet files, shared between wallets
+         */
+        File(final Path path, final Headers headers, final Journals journals) {
+            this(path, headers, journals, Wallet.File.SIGNATURES);
+        }
+
+        /**
+         * Ctor.
+         * @param path Path of wallet
+         * @param headers Headers of wallet files, shared between wallets
+         * @param journals Journals of wallet files, shared between wallets
+         * @param signatures Signatures verified so far
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        File(final Path path, final Headers headers, final Journals journals,
+            final Signatures signatures) {
+            this(
+                path, headers, journals,
+                new Lines(path, () -> journals.journal(path).end()),
+                signatures
+            );
+        }
+
+        /**
+         * Ctor.
+         * @param path Path of wallet
+         * @param headers Headers of wallet files, shared between wallets
+         * @param journals Journals of wallet files, shared between wallets
+         * @param lines Lines of the wallet file
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        File(final Path path, final Headers headers, final Journals journals,
+            final Iterable<? extends CharSequence> lines) {
+            this(path, headers, journals, lines, Wallet.File.SIGNATURES);
+        }
+
+        /**
+         * Ctor.
+         * @param path Path of wallet
+         * @param headers Headers of wallet files, shared between wallets
+         * @param journals Journals of wallet files, shared between wallets
+         * @param lines Lines of the wallet file
+         * @param signatures Signatures verified so far
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        File(final Path path, final Headers headers, final Journals journals,
+            final Iterable<? extends CharSequence> lines,
+            final Signatures signatures) {
             this.path = path;
+            this.headers = headers;
+            this.journals = journals;
+            this.lines = lines;
+            this.signatures = signatures;
+            this.checkpoint = new Checkpoint(
+                path, () -> journals.journal(path).end()
+            );
+            this.offsets = new Offsets(
+                path, () -> journals.journal(path).end()
+            );
         }
 
         @Override
         public long id() throws IOException {
-            // @checkstyle ProhibitLineSeparatorInStringsCheck (10 lines)
-            return new Checked<>(
-                () -> Long.parseUnsignedLong(
-                    new ListOf<>(
-                        new Split(
-                            new TextOf(this.path),
-                            "\n"
-                        )
-                    ).get(2).asString(),
-                    // @checkstyle MagicNumber (1 line)
-                    16
-                ),
-                e -> new IOException(e)
-            ).value();
+            return this.headers.header(this.path).id();
         }
 
         @Override
         public void pay(final long amt, final long bnf) throws IOException {
-            try (
-                Writer out = new OutputStreamWriter(
-                    Files.newOutputStream(this.path, StandardOpenOption.APPEND),
-                    StandardCharsets.UTF_8
+            if (amt <= 0L) {
+                throw new IOException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "Amount %d to pay from %s is not positive",
+                            amt, this.path
+                        )
+                    ).asString()
+                );
+            }
+            final Journal journal = this.journals.journal(this.path);
+            journal.append(
+                ids -> new CpTransaction(ids.next(), -amt, bnf).toString()
+            );
+            try {
+                this.offsets.refresh();
+            // @checkstyle IllegalCatchCheck (1 line)
+            } catch (final IOException | RuntimeException ex) {
+                Logger.getLogger(Wallet.class.getName()).log(
+                    Level.WARNING,
+                    String.format(
+                        "Index of wallet %s is not updated", this.path
+                    ),
+                    ex
+                );
+            }
+        }
+
+        @Override
+        public Wallet merge(final Wallet other) throws IOException {
+            return new Wallet.Memory(
+                this.id(),
+                this.headers.header(this.path).key(),
+                this.ledger(),
+                this.signatures
+            ).merge(other);
+        }
+
+        @Override
+        public Iterable<Transaction> ledger() {
+            return new Mapped<>(
+                RtTransaction::new,
+                new Skipped<>(
+                    // @checkstyle MagicNumberCheck (1 line)
+                    5,
+                    this.lines
+                )
+            );
+        }
+
+        /**
+         * Transactions of this wallet's ledger that match the query, asked
+         * about every line before it's parsed.
+         * @param query The query
+         * @return Transactions, in the order of the ledger
+         */
+        @Override
+        public Iterable<Transaction> ledger(final Query query) {
+            return new Mapped<>(
+                RtTransaction::new,
+                new Filtered<CharSequence>(
+                    query::matches,
+                    new Skipped<CharSequence>(
+                        // @checkstyle MagicNumberCheck (1 line)
+                        5,
+                        this.lines
+                    )
                 )
-            ) {
-                out.write('\n');
-                out.write(new CpTransaction(amt, bnf).toString());
+            );
+        }
+
+        /**
+         * Transaction of this wallet's ledger, read from where the index
+         * says its line is.
+         * @param id Transaction id
+         * @return The first transaction with the id
+         * @throws IOException If there is no such transaction
+         */
+        @Override
+        public Transaction transaction(final int id) throws IOException {
+            final Optional<Long> offset = this.offsets.offset(id);
+            if (!offset.isPresent()) {
+                throw new IOException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "Transaction %d not found in wallet %016x",
+                            id, this.id()
+                        )
+                    ).asString()
+                );
+            }
+            return new RtTransaction(
+                new Lines(
+                    this.path, 1, offset::get,
+                    () -> this.journals.journal(this.path).end()
+                ).iterator().next()
+            );
+        }
+
+        /**
+         * Transactions of this wallet's ledger not older than the time.
+         * The ledger is read from the line the index finds, or from the
+         * start if the times in it don't only grow.
+         * @param time The time
+         * @return Transactions, in the order of the ledger
+         * @throws IOException If the index can't be read
+         */
+        @Override
+        public Iterable<Transaction> ledgerSince(final ZonedDateTime time)
+            throws IOException {
+            final long from = this.offsets.since(time.toEpochSecond());
+            Iterable<Transaction> ledger = this.ledger();
+            if (from > 0L) {
+                ledger = new Mapped<>(
+                    RtTransaction::new,
+                    new Lines(
+                        this.path, () -> from,
+                        () -> this.journals.journal(this.path).end()
+                    )
+                );
+            }
+            return new Lookup(this.id(), ledger).since(time);
+        }
+
+        @Override
+        public String key() throws IOException {
+            return this.headers.header(this.path).key();
+        }
+
+        @Override
+        public long balance() throws IOException {
+            return this.checkpoint.balance();
+        }
+    }
+
+    /**
+     * Wallet held in memory, with its ledger fully read.
+     *
+     * <p>This is what merges produce: the ledger is read once into a list,
+     * so a wallet that is merged again, or iterated many times, never goes
+     * back to the wallets it was merged from. A payment is added to the
+     * list only, nothing is written.
+     *
+     * @since 1.0
+     */
+    final class Memory implements Wallet {
+
+        /**
+         * The wallet id.
+         */
+        private final long id;
+
+        /**
+         * The public RSA key of the wallet owner.
+         */
+        private final String pubkey;
+
+        /**
+         * Transactions.
+         */
+        private final List<Transaction> transactions;
+
+        /**
+         * Signatures verified so far, by this wallet and its merges.
+         */
+        private final Signatures signatures;
+
+        /**
+         * Ctor.
+         * @param id The wallet id
+         * @param pubkey The public RSA key of the wallet owner
+         * @param transactions Transactions, read right away
+         */
+        public Memory(final long id, final String pubkey,
+            final Iterable<Transaction> transactions) {
+            this(id, pubkey, transactions, new Signatures());
+        }
+
+        /**
+         * Ctor.
+         * @param id The wallet id
+         * @param pubkey The public RSA key of the wallet owner
+         * @param transactions Transactions, read right away
+         * @param signatures Signatures verified so far
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        public Memory(final long id, final String pubkey,
+            final Iterable<Transaction> transactions,
+            final Signatures signatures) {
+            this(
+                id, pubkey,
+                new CopyOnWriteArrayList<>(new ListOf<>(transactions)),
+                signatures
+            );
+        }
+
+        /**
+         * Ctor.
+         * @param id The wallet id
+         * @param pubkey The public RSA key of the wallet owner
+         * @param transactions Transactions
+         * @param signatures Signatures verified so far
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        private Memory(final long id, final String pubkey,
+            final List<Transaction> transactions,
+            final Signatures signatures) {
+            this.id = id;
+            this.pubkey = pubkey;
+            this.transactions = transactions;
+            this.signatures = signatures;
+        }
+
+        @Override
+        public long id() {
+            return this.id;
+        }
+
+        @Override
+        public synchronized void pay(final long amt, final long bnf)
+            throws IOException {
+            if (amt <= 0L) {
+                throw new IOException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "Amount %d to pay from %016x is not positive",
+                            amt, this.id
+                        )
+                    ).asString()
+                );
             }
+            int last = 0;
+            for (final Transaction txn : this.transactions) {
+                if (txn.amount() < 0L) {
+                    last = Math.max(last, txn.id());
+                }
+            }
+            // @checkstyle MagicNumberCheck (1 line)
+            if (last >= 0xffff) {
+                throw new IOException(
+                    new UncheckedText(
+                        new FormattedText(
+                            "All transaction ids of wallet %016x are taken",
+                            this.id
+                        )
+                    ).asString()
+                );
+            }
+            this.transactions.add(new CpTransaction(last + 1, -amt, bnf));
         }
 
         // @todo #16:30min Following transactions should be ignored according
         //  to the whitepaper:
-        //  a) If the transaction is negative and its signature is not valid,
-        //  it is ignored;
         //  b) If the transaction makes the balance of the wallet negative,
-        //  it is ignored;
+        //  it is ignored; now it's only left out of Wallet.balance();
         //  c) If the transaction is positive and it’s absent in the paying
         //  wallet (which exists at the node), it’s ignored; If the paying
         //  wallet doesn’t exist at the node, the transaction is ignored;
         @Override
         public Wallet merge(final Wallet other) throws IOException {
-            if (other.id() != this.id()) {
+            if (other.id() != this.id) {
                 throw new IOException(
                     new UncheckedText(
                         new FormattedText(
                             "Wallet ID mismatch, ours is %d, theirs is %d",
                             other.id(),
-                            this.id()
+                            this.id
                         )
                     ).asString()
                 );
             }
-            final Iterable<Transaction> ledger = this.ledger();
-            return new Wallet.Fake(
-                this.id(),
-                new Joined<Transaction>(
-                    ledger,
-                    new Filtered<>(
-                        incoming -> !new Filtered<>(
-                            origin -> new Unchecked<>(
-                                new Or(
-                                    () -> incoming.equals(origin),
-                                    () -> incoming.id() == origin.id()
-                                        && incoming.bnf().equals(origin.bnf()),
-                                    () -> incoming.id() == origin.id()
-                                        && incoming.amount() < 0L,
-                                    () -> incoming.prefix().equals(origin.prefix())
-                                )
-                            ).value(),
-                            ledger
-                        ).iterator().hasNext(),
-                        other.ledger()
+            return new Wallet.Memory(
+                this.id,
+                this.pubkey,
+                new Merged(
+                    this.transactions,
+                    new ValidTransactions(
+                        this.id, this.pubkey, other.ledger(),
+                        this.signatures
                     )
-                )
+                ),
+                this.signatures
             );
         }
 
         @Override
         public Iterable<Transaction> ledger() {
-            return new Mapped<>(
-                txt -> new RtTransaction(txt.asString()),
-                new Skipped<>(
-                    // @checkstyle MagicNumberCheck (1 line)
-                    5,
-                    new ListOf<>(
-                        new Split(
-                            new TextOf(this.path),
-                            "\\n"
-                        )
-                    )
-                )
-            );
+            return Collections.unmodifiableList(this.transactions);
         }
 
-        // @todo #54:30min Implement key method. This should return the
-        //  public RSA key of the wallet owner in Base64. Also add a unit test
-        //  to replace WalletTest.keyIsNotYetImplemented().
         @Override
         public String key() {
-            throw new UnsupportedOperationException(
-                "key() not yet supported"
+            return this.pubkey;
+        }
+    }
+
+    /**
+     * Wallet file, read through a memory mapping.
+     *
+     * <p>The ledger is parsed straight from the mapped pages, each
+     * transaction is a view over its line and nothing is decoded until
+     * a field is asked for. Everything else is done the way
+     * {@link Wallet.File} does it.
+     *
+     * @since 1.0
+     */
+    final class Mmap implements Wallet {
+
+        /**
+         * The same wallet, as a file read through a mapping.
+         */
+        private final Wallet origin;
+
+        /**
+         * Ctor.
+         * @param path Path of wallet
+         */
+        public Mmap(final Path path) {
+            this(path, Wallet.File.HEADERS, Wallet.File.JOURNALS);
+        }
+
+        /**
+         * Ctor.
+         * @param path Path of wallet
+         * @param headers Headers of wallet files, shared between wallets
+         * @param journals Journals of wallet files, shared between wallets
+         */
+        Mmap(final Path path, final Headers headers, final Journals journals) {
+            this.origin = new Wallet.File(
+                path, headers, journals,
+                new MappedLines(path, () -> journals.journal(path).end())
             );
         }
+
+        @Override
+        public long id() throws IOException {
+            return this.origin.id();
+        }
+
+        @Override
+        public void pay(final long amt, final long bnf) throws IOException {
+            this.origin.pay(amt, bnf);
+        }
+
+        @Override
+        public Wallet merge(final Wallet other) throws IOException {
+            return this.origin.merge(other);
+        }
+
+        @Override
+        public Iterable<Transaction> ledger() {
+            return this.origin.ledger();
+        }
+
+        @Override
+        public Iterable<Transaction> ledger(final Query query) {
+            return this.origin.ledger(query);
+        }
+
+        @Override
+        public Transaction transaction(final int id) throws IOException {
+            return this.origin.transaction(id);
+        }
+
+        @Override
+        public Iterable<Transaction> ledgerSince(final ZonedDateTime time)
+            throws IOException {
+            return this.origin.ledgerSince(time);
+        }
+
+        @Override
+        public String key() throws IOException {
+            return this.origin.key();
+        }
+
+        @Override
+        public long balance() throws IOException {
+            return this.origin.balance();
+        }
+    }
+
+    /**
+     * Wallet in the binary format, made by {@link Conversion}, read through
+     * a mapping. Transactions are read straight from their records, without
+     * parsing, and only the ones asked for.
+     *
+     * <p>The text file stays the wallet that is written: a payment goes
+     * to it, the way {@link Wallet.File} pays, and the binary file is made
+     * from it again, which reads the whole ledger.
+     *
+     * @since 1.0
+     */
+    final class Binary implements Wallet {
+
+        /**
+         * The wallet in the binary format.
+         */
+        private final Path binary;
+
+        /**
+         * The wallet in the text format, it was made from.
+         */
+        private final Path text;
+
+        /**
+         * Ctor.
+         * @param binary The wallet in the binary format
+         * @param text The wallet in the text format, it was made from
+         */
+        public Binary(final Path binary, final Path text) {
+            this.binary = binary;
+            this.text = text;
+        }
+
+        @Override
+        public long id() throws IOException {
+            return this.header().id();
+        }
+
+        @Override
+        public synchronized void pay(final long amt, final long bnf)
+            throws IOException {
+            new Wallet.File(this.text).pay(amt, bnf);
+            new Conversion(this.text, this.binary).toBinary();
+        }
+
+        @Override
+        public Wallet merge(final Wallet other) throws IOException {
+            return new Wallet.Memory(this.id(), this.key(), this.ledger())
+                .merge(other);
+        }
+
+        @Override
+        public Iterable<Transaction> ledger() {
+            return new BinaryLedger(this.binary);
+        }
+
+        @Override
+        public String key() throws IOException {
+            return this.header().key();
+        }
+
+        /**
+         * Header of the wallet.
+         * @return Header
+         * @throws IOException If the file is broken
+         */
+        private Header header() throws IOException {
+            return new Header(new BinaryLedger(this.binary).header(), 0L, 0L);
+        }
     }
 }
@@ -29,4 +29,12 @@ public interface Wallets extends Iterable<Wallet> {
      * @throws IOException If an error occurs
      */
     Wallet create(long id, String pubkey, String network) throws IOException;
+
+    /**
+     * Find a wallet by its id.
+     * @param id The wallet id
+     * @return The wallet
+     * @throws IOException If there is no such wallet, or it can't be read
+     */
+    Wallet find(long id) throws IOException;
 }
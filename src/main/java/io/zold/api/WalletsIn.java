@@ -4,49 +4,49 @@
  */
 package io.zold.api;
 
+import java.io.Closeable;
 import java.io.IOException;
-import java.nio.file.FileSystems;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Iterator;
+import java.util.Optional;
 import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import org.cactoos.Func;
 import org.cactoos.Scalar;
 import org.cactoos.func.IoCheckedFunc;
-import org.cactoos.io.Directory;
-import org.cactoos.iterable.Filtered;
 import org.cactoos.iterable.Mapped;
-import org.cactoos.scalar.IoChecked;
 import org.cactoos.scalar.Solid;
 import org.cactoos.text.FormattedText;
-import org.cactoos.text.Joined;
 import org.cactoos.text.UncheckedText;
 
 /**
  * Wallets in path.
+ *
+ * <p>Finding wallets by id keeps an index of the directory, with a
+ * watcher of it, until the wallets are closed.
+ *
  * @since 0.1
  * @checkstyle ClassDataAbstractionCoupling (2 lines)
  */
-public final class WalletsIn implements Wallets {
+public final class WalletsIn implements Wallets, Closeable {
 
     /**
-     * Path containing wallets.
+     * Layout of wallet files.
      */
-    private final IoChecked<Path> path;
+    private final Layout layout;
 
     /**
-     * Filter for matching file extensions.
-     */
-    private final IoCheckedFunc<Path, Boolean> filter;
-
-    /**
-     * Wallets file extension.
+     * Randomizer.
      */
-    private final String ext;
+    private final Random random;
 
     /**
-     * Randomizer.
+     * Wallet kept in a file.
      */
-    private final Random random;
+    private final IoCheckedFunc<Path, Wallet> wallet;
 
     /**
      * Ctor.
@@ -73,6 +73,61 @@ public final class WalletsIn implements Wallets {
         );
     }
 
+    /**
+     * Ctor.
+     *
+     * <p>Use it to choose how wallet files are read, for example
+     * {@code new WalletsIn(path, Storage.MAPPED)} maps them into
+     * memory.
+     *
+     * @param pth Path with wallets
+     * @param storage How wallet files are read
+     */
+    public WalletsIn(final Path pth, final Storage storage) {
+        this(new Layout.Flat(pth), storage, Durability.DATA);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>Use it to choose how wallet files are laid out, for example
+     * {@code new WalletsIn(new Layout.Sharded(path))} spreads them over
+     * subdirectories.
+     *
+     * @param layout Layout of wallet files
+     */
+    public WalletsIn(final Layout layout) {
+        this(layout, Durability.DATA);
+    }
+
+    /**
+     * Ctor.
+     *
+     * <p>Use it to trade durability of payments for their speed, for
+     * example {@code new WalletsIn(layout, Durability.BUFFERED)} doesn't
+     * wait for payments to reach the disk.
+     *
+     * @param layout Layout of wallet files
+     * @param durability How durable a payment is
+     */
+    public WalletsIn(final Layout layout, final Durability durability) {
+        this(layout, Storage.FILE, durability);
+    }
+
+    /**
+     * Ctor.
+     * @param layout Layout of wallet files
+     * @param storage How wallet files are read
+     * @param durability How durable a payment is
+     */
+    public WalletsIn(final Layout layout, final Storage storage,
+        final Durability durability) {
+        this(
+            layout, new Random(), storage,
+            new Headers(), new Journals(durability)
+        );
+    }
+
     /**
      * Ctor.
      * @param pth Path with wallets
@@ -81,30 +136,56 @@ public final class WalletsIn implements Wallets {
      */
     public WalletsIn(final Scalar<Path> pth, final String ext,
         final Random random) {
-        this.path = new IoChecked<>(
-            new Solid<>(pth)
-        );
-        this.filter = new IoCheckedFunc<Path, Boolean>(
-            file -> file.toFile().isFile()
-                && FileSystems.getDefault()
-                .getPathMatcher(String.format("glob:**.%s", ext))
-                .matches(file)
+        this(
+            new Layout.Flat(pth, ext), random, Storage.FILE,
+            new Headers(), Wallet.File.JOURNALS
         );
-        this.ext = ext;
+    }
+
+    /**
+     * Ctor.
+     * @param layout Layout of wallet files
+     * @param random Randomizer
+     * @param storage How wallet files are read
+     * @param headers Headers of the wallets, cached
+     * @param journals Journals of the wallets, shared between payments
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private WalletsIn(final Layout layout, final Random random,
+        final Storage storage, final Headers headers,
+        final Journals journals) {
+        this(layout, random, file -> storage.wallet(file, headers, journals));
+    }
+
+    /**
+     * Ctor.
+     * @param pth Path with wallets
+     * @param ext Wallets file extension
+     * @param random Randomizer
+     * @param wallet Wallet kept in a file
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public WalletsIn(final Scalar<Path> pth, final String ext,
+        final Random random, final Func<Path, Wallet> wallet) {
+        this(new Layout.Flat(new Solid<>(pth), ext), random, wallet);
+    }
+
+    /**
+     * Ctor.
+     * @param layout Layout of wallet files
+     * @param random Randomizer
+     * @param wallet Wallet kept in a file
+     */
+    public WalletsIn(final Layout layout, final Random random,
+        final Func<Path, Wallet> wallet) {
+        this.layout = layout;
         this.random = random;
+        this.wallet = new IoCheckedFunc<>(wallet);
     }
 
     @Override
     public Wallet create() throws IOException {
-        final Path wpth = this.path.value().resolve(
-            new UncheckedText(
-                new Joined(
-                    ".",
-                    Long.toHexString(this.random.nextLong()),
-                    this.ext
-                )
-            ).asString()
-        );
+        final Path wpth = this.layout.path(this.random.nextLong());
         if (wpth.toFile().exists()) {
             throw new IOException(
                 new UncheckedText(
@@ -115,8 +196,9 @@ public final class WalletsIn implements Wallets {
                 ).asString()
             );
         }
+        Files.createDirectories(wpth.getParent());
         Files.createFile(wpth);
-        return new Wallet.File(wpth);
+        return this.wallet.apply(wpth);
     }
 
     @Override
@@ -131,15 +213,144 @@ public final class WalletsIn implements Wallets {
         );
     }
 
+    @Override
+    public Wallet find(final long id) throws IOException {
+        final Optional<Path> file = this.layout.find(id);
+        if (!file.isPresent()) {
+            throw new IOException(
+                new UncheckedText(
+                    new FormattedText("Wallet %016x not found", id)
+                ).asString()
+            );
+        }
+        return this.wallet.apply(file.get());
+    }
+
     @Override
     public Iterator<Wallet> iterator() {
         try {
             return new Mapped<Wallet>(
-                pth -> new Wallet.File(pth),
-                new Filtered<>(this.filter, new Directory(this.path.value()))
+                this.wallet,
+                this.layout.files()
             ).iterator();
         } catch (final IOException ex) {
             throw new IllegalStateException(ex);
         }
     }
+
+    @Override
+    public void close() throws IOException {
+        this.layout.close();
+    }
+
+    /**
+     * Wallets, split evenly for parallel streams.
+     *
+     * <p>The directory is listed once, and every split takes half of what
+     * is left of the listing, so {@code StreamSupport.stream(wallets
+     * .spliterator(), true)} keeps all cores busy.
+     *
+     * @return Spliterator
+     */
+    @Override
+    public Spliterator<Wallet> spliterator() {
+        try {
+            return new WalletsIn.Split(
+                this.layout.files().toArray(new Path[0]), this.wallet
+            );
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Spliterator over a range of the listing of wallet files.
+     * @since 1.0
+     */
+    private static final class Split implements Spliterator<Wallet> {
+
+        /**
+         * Wallet files.
+         */
+        private final Path[] files;
+
+        /**
+         * Wallet kept in a file.
+         */
+        private final IoCheckedFunc<Path, Wallet> wallet;
+
+        /**
+         * End of the range, exclusive.
+         */
+        private final int end;
+
+        /**
+         * Current position.
+         */
+        private int pos;
+
+        /**
+         * Ctor.
+         * @param files Wallet files
+         * @param wallet Wallet kept in a file
+         */
+        Split(final Path[] files, final IoCheckedFunc<Path, Wallet> wallet) {
+            this(files, wallet, 0, files.length);
+        }
+
+        /**
+         * Ctor.
+         * @param files Wallet files
+         * @param wallet Wallet kept in a file
+         * @param start Start of the range, inclusive
+         * @param end End of the range, exclusive
+         * @checkstyle ParameterNumberCheck (3 lines)
+         */
+        Split(final Path[] files, final IoCheckedFunc<Path, Wallet> wallet,
+            final int start, final int end) {
+            this.files = files;
+            this.wallet = wallet;
+            this.pos = start;
+            this.end = end;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Wallet> action) {
+            final boolean more = this.pos < this.end;
+            if (more) {
+                try {
+                    action.accept(this.wallet.apply(this.files[this.pos]));
+                } catch (final IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                this.pos += 1;
+            }
+            return more;
+        }
+
+        @Override
+        public Spliterator<Wallet> trySplit() {
+            final int middle = (this.pos + this.end) >>> 1;
+            Spliterator<Wallet> half = null;
+            if (middle > this.pos) {
+                half = new WalletsIn.Split(
+                    this.files, this.wallet, this.pos, middle
+                );
+                this.pos = middle;
+            }
+            return half;
+        }
+
+        @Override
+        public long estimateSize() {
+            return (long) this.end - this.pos;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED
+                | Spliterator.SUBSIZED | Spliterator.NONNULL
+                | Spliterator.IMMUTABLE;
+        }
+    }
 }
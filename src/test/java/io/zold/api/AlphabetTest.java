@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Alphabet}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class AlphabetTest {
+
+    @Test
+    void coversHexText() {
+        MatcherAssert.assertThat(
+            "Hex text is not covered",
+            new Alphabet("A-Fa-f0-9").covers("98bb82C81735c4ee", 16),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void rejectsTextOfOtherLength() {
+        MatcherAssert.assertThat(
+            "Text of wrong length is covered",
+            new Alphabet("A-Fa-f0-9").covers("abcde", 4),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void findsEndOfSpan() {
+        MatcherAssert.assertThat(
+            "Span ends at the wrong position",
+            new Alphabet("A-Za-z0-9+/").span("xksQuJ==", 0),
+            new IsEqual<>(6)
+        );
+    }
+
+    @Test
+    void acceptsRangeOfSymbols() {
+        MatcherAssert.assertThat(
+            "Range of symbols is not accepted",
+            new Alphabet("A-Za-z0-9 -.").span("For 3 beers, (1.5$)!", 0),
+            new IsEqual<>(20)
+        );
+    }
+
+    @Test
+    void rejectsNonAsciiCharacters() {
+        MatcherAssert.assertThat(
+            "Non ASCII character is accepted",
+            new Alphabet("a-z").span("café", 0),
+            new IsEqual<>(3)
+        );
+    }
+}
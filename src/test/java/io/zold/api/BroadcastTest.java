@@ -0,0 +1,129 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import org.cactoos.iterable.Filtered;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.scalar.LengthOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsInstanceOf;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link Broadcast}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class BroadcastTest {
+
+    @Test
+    void reportsEveryDelivery() throws Exception {
+        final Remote broken = Mockito.mock(Remote.class);
+        Mockito.doThrow(new IllegalStateException("down"))
+            .when(broken).push(Mockito.any(Wallet.class));
+        final List<Broadcast.Delivery> deliveries = new Broadcast(
+            new IterableOf<>(Mockito.mock(Remote.class), broken)
+        ).push(new Wallet.Fake(1L)).join();
+        MatcherAssert.assertThat(
+            "Failed delivery is not reported",
+            new LengthOf(
+                new Filtered<>(dlv -> !dlv.success(), deliveries)
+            ).value(),
+            new IsEqual<>(1L)
+        );
+    }
+
+    @Test
+    void completesOnQuorum() throws Exception {
+        final CountDownLatch stuck = new CountDownLatch(1);
+        final Remote slow = Mockito.mock(Remote.class);
+        Mockito.doAnswer(
+            inv -> {
+                stuck.await();
+                return null;
+            }
+        ).when(slow).push(Mockito.any(Wallet.class));
+        try {
+            MatcherAssert.assertThat(
+                "Quorum doesn't complete the push",
+                new Broadcast(
+                    new IterableOf<>(
+                        Mockito.mock(Remote.class), slow,
+                        Mockito.mock(Remote.class)
+                    )
+                ).push(new Wallet.Fake(1L), 2).join().size(),
+                new IsEqual<>(2)
+            );
+        } finally {
+            stuck.countDown();
+        }
+    }
+
+    @Test
+    void failsWithoutQuorum() {
+        final Remote broken = Mockito.mock(Remote.class);
+        Mockito.doThrow(new IllegalStateException("down"))
+            .when(broken).push(Mockito.any(Wallet.class));
+        MatcherAssert.assertThat(
+            "Push without quorum doesn't fail",
+            Assertions.assertThrows(
+                CompletionException.class,
+                () -> new Broadcast(
+                    new IterableOf<>(Mockito.mock(Remote.class), broken)
+                ).push(new Wallet.Fake(1L), 2).join()
+            ).getCause(),
+            new IsInstanceOf(IOException.class)
+        );
+    }
+
+    @Test
+    void givesUpOnSilentRemotes() throws Exception {
+        final CountDownLatch stuck = new CountDownLatch(1);
+        final Remote silent = Mockito.mock(Remote.class);
+        Mockito.doAnswer(
+            inv -> {
+                stuck.await();
+                return null;
+            }
+        ).when(silent).push(Mockito.any(Wallet.class));
+        try {
+            MatcherAssert.assertThat(
+                "Push waits for a silent remote",
+                new Broadcast(
+                    new IterableOf<>(Mockito.mock(Remote.class), silent),
+                    ForkJoinPool.commonPool(),
+                    Duration.ofMillis(100L)
+                ).push(new Wallet.Fake(1L)).join().size(),
+                new IsEqual<>(1)
+            );
+        } finally {
+            stuck.countDown();
+        }
+    }
+
+    @Test
+    void countsRejectedPushes() {
+        MatcherAssert.assertThat(
+            "Rejected push is not counted",
+            new Broadcast(
+                new IterableOf<>(Mockito.mock(Remote.class)),
+                task -> {
+                    throw new RejectedExecutionException("full");
+                }
+            ).push(new Wallet.Fake(1L)).join().get(0).success(),
+            new IsEqual<>(false)
+        );
+    }
+}
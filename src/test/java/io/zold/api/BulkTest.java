@@ -0,0 +1,58 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Bulk}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class BulkTest {
+
+    @Test
+    void processesEveryWallet() throws IOException {
+        final Set<Long> ids = ConcurrentHashMap.newKeySet();
+        new Bulk(
+            new WalletsIn(Paths.get("src/test/resources/walletsIn")),
+            new ForkJoinPool(3)
+        ).forEach(wallet -> ids.add(wallet.id()));
+        MatcherAssert.assertThat(
+            "Not every wallet is processed",
+            ids.size(),
+            new IsEqual<>(5)
+        );
+    }
+
+    @Test
+    void collectsFailures() {
+        MatcherAssert.assertThat(
+            "Failures are not collected",
+            Assertions.assertThrows(
+                IOException.class,
+                () -> new Bulk(
+                    new WalletsIn(Paths.get("src/test/resources/walletsIn"))
+                ).forEach(
+                    wallet -> {
+                        if (wallet.id() % 2L == 1L) {
+                            throw new IOException("odd");
+                        }
+                    }
+                )
+            ).getSuppressed().length,
+            new IsEqual<>(3)
+        );
+    }
+}
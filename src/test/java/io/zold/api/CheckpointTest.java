@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Checkpoint}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle LineLengthCheck (500 lines)
+ */
+final class CheckpointTest {
+
+    @Test
+    void ignoresOverdraft(@TempDir final Path dir) throws IOException {
+        final Path file = new WalletText(dir.resolve("wallet")).write(
+            "0001;2017-07-19T21:24:51Z;0000000000000064;Ui0wpLu7;98bb82c81735c4ee;In;x",
+            "0002;2017-07-19T21:24:51Z;ffffffffffffff38;Ui0wpLu7;98bb82c81735c4ee;Out;x",
+            "0003;2017-07-19T21:24:51Z;ffffffffffffffce;Ui0wpLu7;98bb82c81735c4ee;Out;x"
+        );
+        MatcherAssert.assertThat(
+            "Overdraft is not ignored",
+            new Wallet.File(file).balance(),
+            new IsEqual<>(50L)
+        );
+    }
+
+    @Test
+    void readsOnlyNewLines(@TempDir final Path dir) throws IOException {
+        final Path file = new WalletText(dir.resolve("wallet")).write(
+            "0001;2017-07-19T21:24:51Z;0000000000000064;Ui0wpLu7;98bb82c81735c4ee;In;x"
+        );
+        new Wallet.File(file).balance();
+        new WalletText(file).append(
+            "0002;2017-07-19T21:24:51Z;000000000000000a;Ui0wpLu7;98bb82c81735c4ee;In;x"
+        );
+        Files.write(
+            file.resolveSibling("wallet.balance"),
+            String.format("102 1000 %d\n", new Stamp(file).value(102L))
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        MatcherAssert.assertThat(
+            "Lines before the checkpoint are read again",
+            new Wallet.File(file).balance(),
+            new IsEqual<>(1010L)
+        );
+    }
+
+    @Test
+    void sumsReplacedWalletAgain(@TempDir final Path dir)
+        throws IOException {
+        final Path file = new WalletText(dir.resolve("wallet")).write(
+            "0001;2017-07-19T21:24:51Z;0000000000000064;Ui0wpLu7;98bb82c81735c4ee;In;x"
+        );
+        new Wallet.File(file).balance();
+        Files.move(
+            new WalletText(dir.resolve("other")).write(
+                "0001;2017-07-19T21:24:51Z;000000000000000a;Ui0wpLu7;98bb82c81735c4ee;In;x",
+                "0002;2017-07-19T21:24:51Z;0000000000000014;Ui0wpLu7;98bb82c81735c4ee;In;x"
+            ),
+            file, StandardCopyOption.REPLACE_EXISTING
+        );
+        MatcherAssert.assertThat(
+            "Checkpoint of the replaced wallet is used",
+            new Wallet.File(file).balance(),
+            new IsEqual<>(30L)
+        );
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import java.util.stream.Stream;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Conversion}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class ConversionTest {
+
+    @Test
+    void convertsBothWaysWithoutLoss(@TempDir final Path dir)
+        throws IOException {
+        final Path text = dir.resolve("wallet.z");
+        final String original = String.join(
+            "\n",
+            "zold", "1", "12345678abcdef", "MIGeMA0GCSqGSIb3DQEBAQUAA4GMADCBiAKBgGZ",
+            "",
+            new CpTransaction(
+                1, ZonedDateTime.parse("2017-07-19T21:24:51Z"), -100L,
+                "Ui0wpLu7", 0x98bb82c81735c4eeL, "For services"
+            ).toString(),
+            new CpTransaction(
+                2, ZonedDateTime.parse("2017-07-19T21:25:07.5+03:00"), 2_500L,
+                "xksQuJa9abcd", 0x98bb82c81735c4efL, "For food"
+            ).toString(),
+            ""
+        );
+        Files.write(text, original.getBytes(StandardCharsets.UTF_8));
+        final Path binary = dir.resolve("wallet.zb");
+        new Conversion(text, binary).toBinary();
+        Files.delete(text);
+        new Conversion(text, binary).toText();
+        MatcherAssert.assertThat(
+            "Text made from binary is not the same",
+            new String(Files.readAllBytes(text), StandardCharsets.UTF_8),
+            new IsEqual<>(original)
+        );
+        MatcherAssert.assertThat(
+            "Binary wallet doesn't read the same transactions",
+            new ListOf<>(new Wallet.Binary(binary, text).ledger()).get(1).amount(),
+            new IsEqual<>(2_500L)
+        );
+        MatcherAssert.assertThat(
+            "Binary wallet doesn't read the id",
+            new Wallet.Binary(binary, text).id(),
+            new IsEqual<>(0x12345678abcdefL)
+        );
+    }
+
+    @Test
+    void paysThroughTextFile(@TempDir final Path dir) throws IOException {
+        final Path text = dir.resolve("paying.z");
+        Files.write(
+            text,
+            String.join(
+                "\n", "zold", "1", "1", "key", "",
+                new CpTransaction(
+                    1, ZonedDateTime.parse("2017-07-19T21:24:51Z"), 100L,
+                    "Ui0wpLu7", 0x98bb82c81735c4eeL, "In"
+                ).toString(),
+                ""
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        final Path binary = dir.resolve("paying.zb");
+        new Conversion(text, binary).toBinary();
+        final Wallet wallet = new Wallet.Binary(binary, text);
+        wallet.pay(40L, 0x98bb82c81735c4eeL);
+        MatcherAssert.assertThat(
+            "Binary wallet doesn't see its payment",
+            wallet.balance(),
+            new IsEqual<>(60L)
+        );
+    }
+
+    @Test
+    void refusesLossyTransactions(@TempDir final Path dir) throws IOException {
+        final Path text = dir.resolve("upper.z");
+        Files.write(
+            text,
+            String.join(
+                "\n", "zold", "1", "1", "key", "",
+                new CpTransaction(
+                    1, ZonedDateTime.parse("2017-07-19T21:24:51Z"), 100L,
+                    "Ui0wpLu7", 0x98bb82c81735c4eeL, "Up"
+                ).toString().replace("98bb82c81735c4ee", "98BB82C81735C4EE")
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Conversion(text, dir.resolve("upper.zb")).toBinary()
+        );
+        try (Stream<Path> files = Files.list(dir)) {
+            MatcherAssert.assertThat(
+                "Temporary file is left behind",
+                files.count(),
+                new IsEqual<>(1L)
+            );
+        }
+    }
+}
@@ -4,12 +4,20 @@
  */
 package io.zold.api;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.cactoos.iterable.IterableOf;
 import org.cactoos.list.ListOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.core.IsEqual;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 /**
  * Test case for {@link Copies}.
@@ -20,6 +28,8 @@ import org.junit.jupiter.api.Test;
  *  remotes return single element
  *  remotes return wallets with different content
  * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ * @checkstyle LineLengthCheck (500 lines)
  */
 final class CopiesTest {
 
@@ -41,6 +51,158 @@ final class CopiesTest {
         );
     }
 
+    @Test
+    void separatesWalletsWithDifferentContent() {
+        MatcherAssert.assertThat(
+            "Wallets with different ledgers are in one copy",
+            new ListOf<>(
+                new Copies(
+                    1L,
+                    new IterableOf<>(
+                        CopiesTest.serving(new Wallet.Fake(1L)),
+                        CopiesTest.serving(
+                            new Wallet.Fake(
+                                1L,
+                                new RtTransaction(
+                                    "003b;2018-07-19T21:25:07Z;ffffffffffa72367;xksQuJa9;98bb82c81735c4ee;For food;WKF3Emi4R2OCbPqUuFSykGD4JtAeWc8WThSYUnmLH2w1RiNSa8KNBGUw56mh0jYjmA1AXRyP/Iktqatmczp+isvh2iBN9hpZgavJ1fFjOgoFmNFe8PT8vg4ZC/vOVgMc807icX7O5i36fi0MEvEv242+2z/Gju3vcb42cZMupDoOEF/CDcEy1Ng7iAFdyLoMja74cMo6H7U0z97e2c2Sa1Eidmkdn+mXNbFsx5RizLtLUfhMtghf697Qu9i1N9lY/Qwk8SvgSviPPWs1cjjK/Fsg1ezfHSWbbHmK8/4qkvgkHqAwVwfD7bWm+1McxzNkU4X5pqE/vW5Tm/K9o7wq4N8u355U+xpgTShPEDN9u6QfdE2O4b/Q6rTzVHMX4j66cLrB8am6K9OQ7LYGShRcqR5L078RyjqHm/wDSzfZWbq8NsjmVm7Dr8NVxJ+0jS2U/r+Fo2+uyjDBn5n/UcqxUGgt0qHaGPoi7kezFHcqeVXp8RLetfXa/TBTj39Gc7aBNBFxkfaM7I/TSpI+xjtjr1cfquut/NiVLMSEVipOIEZ+Sjgf9jLjmpNfRDavz3kGi20TkL4szEvgz8bD1dT6Kf7FKPu7YBMYFoyY12RK7NZcdVr+4yNLFbRtaZYwdhrRLYwKaHli4oUN2CjAOHivVw3Ig8x/JySGxsiy3aJD8L3="
+                                )
+                            )
+                        ),
+                        CopiesTest.serving(new Wallet.Fake(1L))
+                    )
+                )
+            ).size(),
+            new IsEqual<>(2)
+        );
+    }
+
+    @Test
+    void leavesOutSlowRemotes() {
+        MatcherAssert.assertThat(
+            "Slow remote is waited for",
+            new ListOf<>(
+                new Copies(
+                    1L,
+                    new IterableOf<>(
+                        new Remote.Fake(1),
+                        new CopiesTest.Slow(new Remote.Fake(1)),
+                        new Remote.Fake(1)
+                    ),
+                    Duration.ofMillis(500L)
+                ).iterator().next().score().suffixes()
+            ).size(),
+            new IsEqual<>(2)
+        );
+    }
+
+    @Test
+    void pullsRemotesConcurrently() {
+        final long start = System.nanoTime();
+        new ListOf<>(
+            new Copies(
+                1L,
+                new IterableOf<>(
+                    new CopiesTest.Slow(new Remote.Fake(1), 300L),
+                    new CopiesTest.Slow(new Remote.Fake(1), 300L),
+                    new CopiesTest.Slow(new Remote.Fake(1), 300L)
+                )
+            )
+        );
+        MatcherAssert.assertThat(
+            "Remotes are pulled one by one",
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+            Matchers.lessThan(900L)
+        );
+    }
+
+    @Test
+    void leavesOutRemotesWaitingForThreadTooLong() {
+        final ExecutorService single = Executors.newSingleThreadExecutor();
+        try {
+            MatcherAssert.assertThat(
+                "Remote waiting for a thread is waited for too long",
+                new ListOf<>(
+                    new Copies(
+                        1L,
+                        new IterableOf<>(
+                            new CopiesTest.Slow(new Remote.Fake(1), 300L),
+                            new CopiesTest.Slow(new Remote.Fake(1), 300L)
+                        ),
+                        single,
+                        Duration.ofMillis(500L)
+                    ).iterator().next().score().suffixes()
+                ).size(),
+                new IsEqual<>(1)
+            );
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    void leavesOutUnreachableRemotes() {
+        final Remote broken = Mockito.mock(Remote.class);
+        Mockito.when(broken.pull(Mockito.anyLong())).thenThrow(
+            new UncheckedIOException(new IOException("unreachable"))
+        );
+        MatcherAssert.assertThat(
+            "Unreachable remote isn't left out",
+            new ListOf<>(
+                new Copies(
+                    1L,
+                    new IterableOf<>(new Remote.Fake(1), broken)
+                ).iterator().next().score().suffixes()
+            ).size(),
+            new IsEqual<>(1)
+        );
+    }
+
+    @Test
+    void leavesOutRemotesWithBrokenLedger() {
+        MatcherAssert.assertThat(
+            "Remote with a broken ledger isn't left out",
+            new ListOf<>(
+                new Copies(
+                    1L,
+                    new IterableOf<>(
+                        new Remote.Fake(1),
+                        CopiesTest.serving(
+                            new Wallet.Fake(1L, new RtTransaction("broken"))
+                        )
+                    )
+                ).iterator().next().score().suffixes()
+            ).size(),
+            new IsEqual<>(1)
+        );
+    }
+
+    @Test
+    void leavesOutRemotesWithBug() {
+        final Remote buggy = Mockito.mock(Remote.class);
+        Mockito.when(buggy.pull(Mockito.anyLong())).thenThrow(
+            new NullPointerException("bug")
+        );
+        MatcherAssert.assertThat(
+            "Remote with a bug isn't left out",
+            new ListOf<>(
+                new Copies(
+                    1L,
+                    new IterableOf<>(new Remote.Fake(1), buggy)
+                )
+            ).size(),
+            new IsEqual<>(1)
+        );
+    }
+
+    private static Remote serving(final Wallet wallet) {
+        final Remote remote = Mockito.mock(Remote.class);
+        Mockito.when(remote.pull(Mockito.anyLong())).thenReturn(wallet);
+        Mockito.when(remote.score()).thenReturn(
+            new RtScore(new IterableOf<>(new TextOf("a")))
+        );
+        return remote;
+    }
+
     private static Iterable<Copies.Copy> copies() {
         return new Copies(
             1L,
@@ -50,4 +212,60 @@ final class CopiesTest {
             )
         );
     }
+
+    /**
+     * Remote that takes its time to answer.
+     * @since 1.0
+     */
+    private static final class Slow implements Remote {
+
+        /**
+         * The remote.
+         */
+        private final Remote origin;
+
+        /**
+         * How long to sleep before answering, in milliseconds.
+         */
+        private final long delay;
+
+        /**
+         * Ctor.
+         * @param origin The remote
+         */
+        Slow(final Remote origin) {
+            this(origin, 10_000L);
+        }
+
+        /**
+         * Ctor.
+         * @param origin The remote
+         * @param delay How long to sleep before answering, in milliseconds
+         */
+        Slow(final Remote origin, final long delay) {
+            this.origin = origin;
+            this.delay = delay;
+        }
+
+        @Override
+        public Score score() {
+            return this.origin.score();
+        }
+
+        @Override
+        public void push(final Wallet wallet) {
+            this.origin.push(wallet);
+        }
+
+        @Override
+        public Wallet pull(final long id) {
+            try {
+                Thread.sleep(this.delay);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+            return this.origin.pull(id);
+        }
+    }
 }
@@ -5,10 +5,11 @@
 package io.zold.api;
 
 import java.io.IOException;
+import java.time.ZonedDateTime;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
-import org.hamcrest.core.StringContains;
-import org.junit.jupiter.api.Disabled;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.StringStartsWith;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -22,48 +23,54 @@ import org.junit.jupiter.api.Test;
 final class CpTransactionTest {
 
     @Test
-    @Disabled
     void returnAmount() throws IOException {
-        final long amount = 256;
         MatcherAssert.assertThat(
             "Cannot return amount",
-            new CpTransaction(amount, 1024).amount(),
-            new IsEqual<>(256)
+            new CpTransaction(1, -256L, 1024L).amount(),
+            new IsEqual<>(-256L)
         );
     }
 
     @Test
-    @Disabled
-    void returnSignatureForPositiveTransaction() throws IOException {
-        final long id = 1024;
+    void returnBeneficiary() throws IOException {
+        MatcherAssert.assertThat(
+            "Cannot return beneficiary",
+            new CpTransaction(1, 256L, 1024L).bnf(),
+            new IsEqual<>("0000000000000400")
+        );
+    }
+
+    @Test
+    void returnSignatureOfValidLength() throws IOException {
         MatcherAssert.assertThat(
             "Cannot return signature",
-            new CpTransaction(256, id).signature(),
-            new IsEqual<>("1024")
+            new CpTransaction(1, -256L, 1024L).signature().length(),
+            new IsEqual<>(684)
         );
     }
 
     @Test
-    @Disabled
-    void returnPrefix() throws IOException {
-        final long id = 1024;
-        final Wallet wallet = new Wallet.Fake(id);
+    void returnRandomPrefix() throws IOException {
         MatcherAssert.assertThat(
-            "Cannot return prefix",
-            wallet.key(),
-            new StringContains(new CpTransaction(256, id).prefix())
+            "Prefixes of two transactions are the same",
+            new CpTransaction(1, 256L, 1024L).prefix(),
+            new IsNot<>(
+                new IsEqual<>(new CpTransaction(1, 256L, 1024L).prefix())
+            )
         );
     }
 
     @Test
-    @Disabled
-    void returnBeneficiary() throws IOException {
-        final long id = 1024;
-        final Wallet wallet = new Wallet.Fake(id);
+    void writesWholeLine() {
         MatcherAssert.assertThat(
-            "Cannot return beneficiary",
-            new CpTransaction(256, id).bnf(),
-            new IsEqual<>(wallet.key())
+            "Cannot write transaction line",
+            new CpTransaction(
+                0x3a, ZonedDateTime.parse("2017-07-19T21:24:51Z"),
+                -1L, "Ui0wpLu7", 0x98bb82c81735c4eeL, "For services"
+            ).toString(),
+            new StringStartsWith(
+                "003a;2017-07-19T21:24:51Z;ffffffffffffffff;Ui0wpLu7;98bb82c81735c4ee;For services;"
+            )
         );
     }
 }
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Fields}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class FieldsTest {
+
+    @Test
+    void countsFields() {
+        MatcherAssert.assertThat(
+            "Can't count fields",
+            new Fields("003b;2017-07-19T21:25:07Z;0000000000a72366;a;b;c;d").count(),
+            new IsEqual<>(7)
+        );
+    }
+
+    @Test
+    void skipsTrailingEmptyFields() {
+        MatcherAssert.assertThat(
+            "Trailing empty fields are counted",
+            new Fields("003b;;c;;").count(),
+            new IsEqual<>(3)
+        );
+    }
+
+    @Test
+    void countsLineWithoutSeparators() {
+        MatcherAssert.assertThat(
+            "Line without separators is not a single field",
+            new Fields("").count(),
+            new IsEqual<>(1)
+        );
+    }
+
+    @Test
+    void viewsField() {
+        MatcherAssert.assertThat(
+            "Can't view a field",
+            new Fields("003b;2017-07-19T21:25:07Z;0000000000a72366").at(1).toString(),
+            new IsEqual<>("2017-07-19T21:25:07Z")
+        );
+    }
+
+    @Test
+    void materializesLastField() {
+        MatcherAssert.assertThat(
+            "Can't materialize the last field",
+            new Fields("a;b;c;d;e;f;For food").text(6),
+            new IsEqual<>("For food")
+        );
+    }
+}
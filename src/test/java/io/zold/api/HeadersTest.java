@@ -0,0 +1,96 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Headers}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class HeadersTest {
+
+    @Test
+    void readsHeader(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("a.z");
+        Files.write(file, "zold\n1\n00000000000000ff\nKEY\n\n".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Can't read the id",
+            new Headers().header(file).id(),
+            new IsEqual<>(255L)
+        );
+    }
+
+    @Test
+    void rereadsChangedFile(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("b.z");
+        Files.write(file, "zold\n1\n0000000000000001\nKEY\n\n".getBytes(StandardCharsets.UTF_8));
+        final Headers headers = new Headers();
+        headers.header(file);
+        Files.write(file, "zold\n1\n0000000000000002\nOTHER\n\n".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Stale header is returned",
+            headers.header(file).key(),
+            new IsEqual<>("OTHER")
+        );
+    }
+
+    @Test
+    void keepsRecentHeadersOnly(@TempDir final Path dir) throws IOException {
+        final Path first = dir.resolve("e.z");
+        Files.write(first, "zold\n1\n0000000000000001\nKEY\n\n".getBytes(StandardCharsets.UTF_8));
+        final Path second = dir.resolve("f.z");
+        Files.write(second, "zold\n1\n0000000000000002\nKEY\n\n".getBytes(StandardCharsets.UTF_8));
+        final Headers headers = new Headers(1);
+        headers.header(first);
+        final FileTime modified = Files.getLastModifiedTime(first);
+        Files.write(first, "zold\n1\n0000000000000001\nNEW\n\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(first, modified);
+        headers.header(second);
+        MatcherAssert.assertThat(
+            "Header used least recently is kept",
+            headers.header(first).key(),
+            new IsEqual<>("NEW")
+        );
+    }
+
+    @Test
+    void failsOnIncompleteHeader(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("c.z");
+        Files.write(file, "zold\n1\n".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IOException.class,
+                () -> new Headers().header(file)
+            ).getMessage(),
+            Matchers.containsString("has 2 header lines")
+        );
+    }
+
+    @Test
+    void failsOnInvalidProtocol(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("d.z");
+        Files.write(file, "zold\nx\n0000000000000001\nKEY\n\n".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            Assertions.assertThrows(
+                IOException.class,
+                () -> new Headers().header(file).protocol()
+            ).getMessage(),
+            Matchers.containsString("Invalid protocol 'x'")
+        );
+    }
+}
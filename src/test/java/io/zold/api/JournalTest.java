@@ -0,0 +1,125 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Journal}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class JournalTest {
+
+    @Test
+    void appendsConcurrently(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("wallet");
+        Files.write(file, "head\n".getBytes(StandardCharsets.UTF_8));
+        final int total = 400;
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        try (Journal journal = new Journal(file, Durability.BUFFERED)) {
+            final Future<?>[] futures = new Future<?>[total];
+            for (int idx = 0; idx < total; ++idx) {
+                final String line = String.format("line %d", idx);
+                futures[idx] = threads.submit(
+                    () -> {
+                        journal.append(line);
+                        return null;
+                    }
+                );
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            threads.shutdown();
+        }
+        final Set<String> lines = new HashSet<>(Files.readAllLines(file));
+        MatcherAssert.assertThat(
+            "Some appended lines are lost",
+            lines.size(),
+            new IsEqual<>(total + 1)
+        );
+    }
+
+    @Test
+    void startsOnNewLine(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("unterminated");
+        Files.write(file, "head".getBytes(StandardCharsets.UTF_8));
+        try (Journal journal = new Journal(file, Durability.DATA)) {
+            journal.append("tail");
+        }
+        MatcherAssert.assertThat(
+            "Line is not appended on its own line",
+            new String(Files.readAllBytes(file), StandardCharsets.UTF_8),
+            new IsEqual<>("head\ntail\n")
+        );
+    }
+
+    @Test
+    void endsAfterWrittenLines(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("ended");
+        Files.write(file, "head\n".getBytes(StandardCharsets.UTF_8));
+        try (Journal journal = new Journal(file, Durability.BUFFERED)) {
+            journal.append("first");
+            journal.append("second");
+            MatcherAssert.assertThat(
+                "Lines read up to the end are not the lines written",
+                new ListOf<>(new Lines(file, journal::end)),
+                new IsEqual<>(new ListOf<>("head", "first", "second"))
+            );
+        }
+    }
+
+    @Test
+    void readsWhileOtherJournalsWrite(@TempDir final Path dir)
+        throws Exception {
+        final Path file = new WalletText(dir.resolve("shared")).write();
+        final Wallet writer = new Wallet.File(
+            file, new Headers(), new Journals(Durability.BUFFERED)
+        );
+        final Wallet reader = new Wallet.File(
+            file, new Headers(), new Journals()
+        );
+        final int total = 200;
+        final ExecutorService threads = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> paying = threads.submit(
+                () -> {
+                    for (int idx = 0; idx < total; ++idx) {
+                        writer.pay(1L, 1234L);
+                    }
+                    return null;
+                }
+            );
+            while (!paying.isDone()) {
+                for (final Transaction txn : reader.ledger()) {
+                    txn.signature();
+                }
+            }
+            paying.get();
+        } finally {
+            threads.shutdown();
+        }
+        MatcherAssert.assertThat(
+            "Payments are lost",
+            new ListOf<>(reader.ledger()).size(),
+            new IsEqual<>(total)
+        );
+    }
+}
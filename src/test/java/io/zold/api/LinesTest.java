@@ -0,0 +1,100 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Lines}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class LinesTest {
+
+    @Test
+    void readsAllLines(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("lines.txt");
+        Files.write(file, "first\nsecond\n".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Can't read lines",
+            new ListOf<>(new Lines(file)),
+            new IsEqual<>(new ListOf<>("first", "second"))
+        );
+    }
+
+    @Test
+    void readsFirstLineOnly(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("first.txt");
+        Files.write(file, "one\ntwo\nthree".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Can't read the first line",
+            new Lines(file).iterator().next(),
+            new IsEqual<>("one")
+        );
+    }
+
+    @Test
+    void leavesOutHalfWrittenLine(@TempDir final Path dir)
+        throws IOException {
+        final Path file = dir.resolve("written.txt");
+        Files.write(file, "one\ntwo\nthr".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Line without a line break is read up to an end",
+            new ListOf<>(new Lines(file, () -> Long.MAX_VALUE)),
+            new IsEqual<>(new ListOf<>("one", "two"))
+        );
+    }
+
+    @Test
+    void readsLimitedLines(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("limited.txt");
+        Files.write(file, "a\nb\nc\nd\n".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Can't limit lines",
+            new ListOf<>(new Lines(file, 2)),
+            new IsEqual<>(new ListOf<>("a", "b"))
+        );
+    }
+
+    @Test
+    void readsLinesAcrossChunks(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("long.txt");
+        final StringBuilder text = new StringBuilder(0);
+        for (int idx = 0; idx < 5000; ++idx) {
+            text.append("line ").append(idx).append('\n');
+            if (idx % 1000 == 0) {
+                for (int chr = 0; chr < 20_000; ++chr) {
+                    text.append('x');
+                }
+                text.append('\n');
+            }
+        }
+        Files.write(file, text.toString().getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Can't read lines longer than a chunk",
+            new ListOf<>(new Lines(file)),
+            new IsEqual<>(Files.readAllLines(file))
+        );
+    }
+
+    @Test
+    void failsOnAbsentFile(@TempDir final Path dir) {
+        Assertions.assertThrows(
+            UncheckedIOException.class,
+            () -> new Lines(dir.resolve("absent.txt")).iterator()
+        );
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link MappedLines}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MappedLinesTest {
+
+    @Test
+    void readsLinesOfAnyEnding(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("endings.txt");
+        Files.write(file, "a\r\nb\n\nc\rd".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Can't read mapped lines",
+            new ListOf<>(new Mapped<>(CharSequence::toString, new MappedLines(file))),
+            new IsEqual<>(new ListOf<>("a", "b", "", "c", "d"))
+        );
+    }
+
+    @Test
+    void leavesOutHalfWrittenLine(@TempDir final Path dir)
+        throws IOException {
+        final Path file = dir.resolve("written.txt");
+        Files.write(file, "a\r\nb\nc\r".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "Line without a line feed is read up to an end",
+            new ListOf<>(
+                new Mapped<>(
+                    CharSequence::toString,
+                    new MappedLines(file, () -> Long.MAX_VALUE)
+                )
+            ),
+            new IsEqual<>(new ListOf<>("a", "b"))
+        );
+    }
+
+    @Test
+    void readsEmptyFile(@TempDir final Path dir) throws IOException {
+        final Path file = dir.resolve("empty.txt");
+        Files.createFile(file);
+        MatcherAssert.assertThat(
+            "Empty file has lines",
+            new MappedLines(file).iterator().hasNext(),
+            new IsEqual<>(false)
+        );
+    }
+}
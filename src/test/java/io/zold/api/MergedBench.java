@@ -0,0 +1,82 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.scalar.LengthOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link Merged} over ledgers of growing size.
+ *
+ * <p>Half of their ledger is already in ours, so both the lookups that
+ * hit and the ones that miss are measured. The time per merge should
+ * grow linearly with the size.
+ *
+ * <p>See README.md for how to run it.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle JavadocVariableCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings("PMD.ClassNamingConventions")
+public class MergedBench {
+
+    @Param({"1000", "10000", "50000"})
+    public int size;
+
+    private List<Transaction> ours;
+
+    private List<Transaction> theirs;
+
+    @Setup
+    public void setup() {
+        this.ours = new ArrayList<>(this.size);
+        this.theirs = new ArrayList<>(this.size);
+        for (int idx = 0; idx < this.size; ++idx) {
+            this.ours.add(MergedBench.transaction(idx));
+            this.theirs.add(MergedBench.transaction(idx + this.size / 2));
+        }
+    }
+
+    @Benchmark
+    public long merge() throws Exception {
+        return new LengthOf(new Merged(this.ours, this.theirs)).value();
+    }
+
+    /**
+     * Transaction with unique id, prefix and beneficiary.
+     * @param idx Number of the transaction
+     * @return Transaction
+     */
+    private static Transaction transaction(final int idx) {
+        return new RtTransaction(
+            String.format(
+                "%04x;2018-07-19T21:25:07Z;%016x;%08d;%016x;For food;sign",
+                idx & 0xffff, idx + 1, idx, idx
+            )
+        );
+    }
+}
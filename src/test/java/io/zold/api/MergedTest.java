@@ -0,0 +1,79 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import org.cactoos.iterable.Mapped;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Merged}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle LineLengthCheck (500 lines)
+ */
+final class MergedTest {
+
+    @Test
+    void skipsKnownTransactions() {
+        final String ours = "0001;2018-07-19T21:25:07Z;0000000000000010;xksQuJa9;98bb82c81735c4ee;For food;sign";
+        MatcherAssert.assertThat(
+            "Known transactions are merged",
+            new ListOf<>(
+                new Mapped<>(
+                    Object::toString,
+                    new Merged(
+                        new ListOf<>(new RtTransaction(ours)),
+                        new ListOf<>(
+                            new RtTransaction(ours),
+                            new RtTransaction(
+                                "0002;2018-07-19T21:25:07Z;0000000000000010;xksQuJa9;0000000000000001;Same prefix;sign"
+                            ),
+                            new RtTransaction(
+                                "0001;2018-07-19T21:25:07Z;0000000000000020;abcdEFGH;98bb82c81735c4ee;Same id;sign"
+                            ),
+                            new RtTransaction(
+                                "0001;2018-07-19T21:25:07Z;ffffffffffffffff;ijklMNOP;0000000000000002;Negative;sign"
+                            ),
+                            new RtTransaction(
+                                "0003;2018-07-19T21:25:07Z;0000000000000030;qrstUVWX;0000000000000003;New one;sign"
+                            )
+                        )
+                    )
+                )
+            ),
+            new IsEqual<>(
+                new ListOf<>(
+                    ours,
+                    "0003;2018-07-19T21:25:07Z;0000000000000030;qrstUVWX;0000000000000003;New one;sign"
+                )
+            )
+        );
+    }
+
+    @Test
+    void readsBeneficiariesOnlyOfSameIds() {
+        MatcherAssert.assertThat(
+            "Beneficiary of another id is read",
+            new ListOf<>(
+                new Merged(
+                    new ListOf<>(
+                        new RtTransaction(
+                            "0001;2018-07-19T21:25:07Z;0000000000000010;xksQuJa9;not-a-bnf;For food;sign"
+                        )
+                    ),
+                    new ListOf<>(
+                        new RtTransaction(
+                            "0002;2018-07-19T21:25:07Z;0000000000000010;abcdEFGH;98bb82c81735c4ee;New one;sign"
+                        )
+                    )
+                )
+            ).size(),
+            new IsEqual<>(2)
+        );
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Miner}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class MinerTest {
+
+    @Test
+    void minesValidScore() {
+        MatcherAssert.assertThat(
+            "Mined score has no valid proof",
+            new Proof(3).valid(
+                new Miner(3).mine("2018-07-19T21:25:07Z localhost 4096 x@0", 4)
+                    .score()
+            ),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void minesRequestedSuffixes() {
+        MatcherAssert.assertThat(
+            "Mined score has wrong value",
+            new Miner(1).mine("prefix", 5).score().value(),
+            new IsEqual<>(5)
+        );
+    }
+
+    @Test
+    void stopsWhenCancelled() throws InterruptedException {
+        final Miner.Run run = new Miner(64).mine("impossible", 1);
+        Thread.sleep(100L);
+        run.cancel();
+        MatcherAssert.assertThat(
+            "Cancelled mining found something",
+            run.score().value(),
+            new IsEqual<>(0)
+        );
+        MatcherAssert.assertThat(
+            "Nothing was hashed",
+            run.rate(),
+            Matchers.greaterThan(0.0)
+        );
+    }
+
+    @Test
+    void keepsRateAfterMiningIsOver() throws InterruptedException {
+        final Miner.Run run = new Miner(1).mine("prefix", 2);
+        run.score();
+        final double rate = run.rate();
+        Thread.sleep(100L);
+        MatcherAssert.assertThat(
+            "Rate drops after mining is over",
+            run.rate(),
+            new IsEqual<>(rate)
+        );
+    }
+}
@@ -9,6 +9,7 @@ import org.cactoos.iterable.IterableOf;
 import org.cactoos.text.TextOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -44,6 +45,18 @@ final class NetworkTest {
         Mockito.verify(second, Mockito.times(1)).push(Mockito.any(Wallet.class));
     }
 
+    @Test
+    void failsWhenNoRemoteAcceptsWallet() {
+        final Remote broken = Mockito.mock(Remote.class);
+        Mockito.doThrow(new IllegalStateException("down"))
+            .when(broken).push(Mockito.any(Wallet.class));
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new RtNetwork(new IterableOf<>(broken, broken))
+                .push(new Wallet.Fake(1L))
+        );
+    }
+
     @Test
     void pullsWalletWithTheRightId() throws IOException {
         final long id = 1L;
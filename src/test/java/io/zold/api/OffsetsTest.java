@@ -0,0 +1,164 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Offsets}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle LineLengthCheck (500 lines)
+ */
+final class OffsetsTest {
+
+    @Test
+    void findsTransactionById(@TempDir final Path dir) throws IOException {
+        final Path file = OffsetsTest.wallet(dir);
+        final Wallet wallet = new Wallet.File(file);
+        wallet.transaction(1);
+        new WalletText(file).append(
+            "0002;2017-07-19T21:25:51Z;000000000000000a;Ui0wpLu7;98bb82c81735c4ee;Second;x"
+        );
+        MatcherAssert.assertThat(
+            "Transaction written after the index isn't found",
+            wallet.transaction(2).details(),
+            new IsEqual<>("Second")
+        );
+    }
+
+    @Test
+    void findsTransactionsConcurrently(@TempDir final Path dir)
+        throws Exception {
+        final Wallet wallet = new Wallet.File(OffsetsTest.wallet(dir));
+        final int total = 32;
+        final ExecutorService threads = Executors.newFixedThreadPool(total);
+        try {
+            final List<Future<Integer>> futures = new ArrayList<>(total);
+            for (int idx = 0; idx < total; ++idx) {
+                futures.add(
+                    threads.submit(
+                        () -> {
+                            wallet.pay(1L, 1234L);
+                            return wallet.transaction(1).id();
+                        }
+                    )
+                );
+            }
+            for (final Future<Integer> future : futures) {
+                MatcherAssert.assertThat(
+                    "Transaction isn't found while others look for it",
+                    future.get(),
+                    new IsEqual<>(1)
+                );
+            }
+        } finally {
+            threads.shutdown();
+        }
+    }
+
+    @Test
+    void indexesReplacedWalletAgain(@TempDir final Path dir)
+        throws IOException {
+        final Path file = OffsetsTest.wallet(dir);
+        new Wallet.File(file).transaction(1);
+        Files.move(
+            new WalletText(dir.resolve("other")).write(
+                "0007;2017-07-19T21:24:51Z;0000000000000064;Ui0wpLu7;98bb82c81735c4ee;First;x",
+                "0008;2017-07-19T21:25:51Z;000000000000000a;Ui0wpLu7;98bb82c81735c4ee;Second;x"
+            ),
+            file, StandardCopyOption.REPLACE_EXISTING
+        );
+        MatcherAssert.assertThat(
+            "Index of the replaced wallet is used",
+            new Wallet.File(file).transaction(8).details(),
+            new IsEqual<>("Second")
+        );
+    }
+
+    @Test
+    void findsTransactionsByIdInLargeWallet(@TempDir final Path dir)
+        throws IOException {
+        final List<String> lines = new ArrayList<>(0);
+        for (int id = 600; id > 0; --id) {
+            lines.add(OffsetsTest.line(id, String.format("T%d", id)));
+        }
+        lines.add(OffsetsTest.line(5, "Again"));
+        final Path file = new WalletText(dir.resolve("large")).write(
+            lines.toArray(new String[0])
+        );
+        final Wallet wallet = new Wallet.File(file);
+        wallet.transaction(1);
+        new WalletText(file).append(OffsetsTest.line(700, "Late"));
+        MatcherAssert.assertThat(
+            "Transactions are not found by id",
+            new ListOf<>(
+                wallet.transaction(5).details(),
+                wallet.transaction(600).details(),
+                wallet.transaction(700).details()
+            ),
+            new IsEqual<>(new ListOf<>("T5", "T600", "Late"))
+        );
+    }
+
+    @Test
+    void readsLedgerSinceTime(@TempDir final Path dir) throws IOException {
+        final Path file = new WalletText(OffsetsTest.wallet(dir)).append(
+            "0002;2017-07-19T21:25:51Z;000000000000000a;Ui0wpLu7;98bb82c81735c4ee;Second;x",
+            "0003;2017-07-19T21:26:51Z;000000000000000a;Ui0wpLu7;98bb82c81735c4ee;Third;x"
+        );
+        MatcherAssert.assertThat(
+            "Older transactions are read",
+            new ListOf<>(
+                new Wallet.File(file).ledgerSince(
+                    ZonedDateTime.parse("2017-07-19T21:25:00Z")
+                )
+            ).get(0).id(),
+            new IsEqual<>(2)
+        );
+    }
+
+    @Test
+    void keepsUpWithPayments(@TempDir final Path dir) throws IOException {
+        final Path file = OffsetsTest.wallet(dir);
+        final Wallet wallet = new Wallet.File(file);
+        wallet.transaction(1);
+        wallet.pay(1L, 1234L);
+        MatcherAssert.assertThat(
+            "Payment isn't found in the index",
+            new ListOf<>(
+                wallet.ledgerSince(ZonedDateTime.now().minusHours(1L))
+            ).get(0).amount(),
+            new IsEqual<>(-1L)
+        );
+    }
+
+    private static String line(final int id, final String details) {
+        return String.format(
+            "%04x;2017-07-19T21:24:51Z;0000000000000064;Ui0wpLu7;98bb82c81735c4ee;%s;x",
+            id, details
+        );
+    }
+
+    private static Path wallet(final Path dir) throws IOException {
+        return new WalletText(dir.resolve("wallet")).write(
+            "0001;2017-07-19T21:24:51Z;0000000000000064;Ui0wpLu7;98bb82c81735c4ee;First;x"
+        );
+    }
+}
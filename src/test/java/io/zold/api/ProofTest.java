@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.cactoos.Text;
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Proof}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle LineLengthCheck (500 lines)
+ */
+final class ProofTest {
+
+    /**
+     * Prefix of scores.
+     */
+    private static final String PREFIX = "2018-07-19T21:25:07Z b2.zold.io 4096 THdonv1E@abcdef0123456789";
+
+    @Test
+    void acceptsMinedChain() {
+        MatcherAssert.assertThat(
+            "Mined chain is not valid",
+            new Proof(2).valid(ProofTest.mined(2, 3)),
+            new IsEqual<>(true)
+        );
+    }
+
+    @Test
+    void rejectsMadeUpSuffixes() {
+        MatcherAssert.assertThat(
+            "Made up suffixes are valid",
+            new Proof(2).valid(
+                new RtScore(
+                    ProofTest.PREFIX,
+                    new IterableOf<>(new TextOf("abc"), new TextOf("def"))
+                )
+            ),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void checksEveryLink() {
+        final Score mined = ProofTest.mined(2, 2);
+        final List<Text> suffixes = new ArrayList<>(3);
+        suffixes.add(new TextOf("fake"));
+        mined.suffixes().forEach(suffixes::add);
+        MatcherAssert.assertThat(
+            "Broken first link is not noticed",
+            new Proof(2).valid(new RtScore(ProofTest.PREFIX, suffixes)),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void keepsVerdictsOfOtherChainsApart() {
+        final Proof proof = new Proof(2, 1);
+        final Score mined = ProofTest.mined(2, 2);
+        proof.valid(mined);
+        final List<Text> suffixes = new ArrayList<>(3);
+        mined.suffixes().forEach(suffixes::add);
+        suffixes.add(new TextOf("fake"));
+        MatcherAssert.assertThat(
+            "Verdict of a shorter chain is taken",
+            proof.valid(new RtScore(ProofTest.PREFIX, suffixes)),
+            new IsEqual<>(false)
+        );
+    }
+
+    /**
+     * Mine a score the slow way.
+     * @param strength How many zeros every link ends with
+     * @param length How many suffixes
+     * @return Score
+     */
+    static Score mined(final int strength, final int length) {
+        final Proof proof = new Proof(strength);
+        final String zeros = new String(new char[strength]).replace('\0', '0');
+        final List<Text> suffixes = new ArrayList<>(length);
+        String link = ProofTest.PREFIX;
+        for (int found = 0; found < length; ++found) {
+            long nonce = 0L;
+            String next = proof.next(link, Long.toHexString(nonce));
+            while (!next.endsWith(zeros)) {
+                nonce += 1L;
+                next = proof.next(link, Long.toHexString(nonce));
+            }
+            suffixes.add(new TextOf(Long.toHexString(nonce)));
+            link = next;
+        }
+        return new RtScore(ProofTest.PREFIX, suffixes);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.ZonedDateTime;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.collection.IsIterableWithSize;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Query}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle LineLengthCheck (500 lines)
+ */
+final class QueryTest {
+
+    @Test
+    void takesPaymentsToBeneficiary(@TempDir final Path dir)
+        throws IOException {
+        MatcherAssert.assertThat(
+            "Wrong payments are taken",
+            new ListOf<>(
+                new Wallet.File(QueryTest.wallet(dir)).ledger(
+                    new Query.All(
+                        new Query.Negative(),
+                        new Query.Beneficiary(0x98bb82c81735c4eeL)
+                    )
+                )
+            ).get(0).id(),
+            new IsEqual<>(2)
+        );
+    }
+
+    @Test
+    void takesIdsInPeriod(@TempDir final Path dir) throws IOException {
+        MatcherAssert.assertThat(
+            "Wrong transactions are taken",
+            new Wallet.Mmap(QueryTest.wallet(dir)).ledger(
+                new Query.All(
+                    new Query.Ids(2, 3),
+                    new Query.Period(
+                        ZonedDateTime.parse("2017-07-19T21:25:00Z"),
+                        ZonedDateTime.parse("2017-07-19T21:27:00Z")
+                    )
+                )
+            ),
+            new IsIterableWithSize<>(new IsEqual<>(2))
+        );
+    }
+
+    @Test
+    void asksTransactionsOfWalletWithoutLines() throws IOException {
+        MatcherAssert.assertThat(
+            "Wrong incomes are taken",
+            new Wallet.Fake(
+                1L,
+                new RtTransaction("0001;2017-07-19T21:24:51Z;0000000000000064;Ui0wpLu7;98bb82c81735c4ee;In;x"),
+                new RtTransaction("0002;2017-07-19T21:24:51Z;ffffffffffffff9c;Ui0wpLu7;98bb82c81735c4ee;Out;x")
+            ).ledger(new Query.Positive()),
+            new IsIterableWithSize<>(new IsEqual<>(1))
+        );
+    }
+
+    private static Path wallet(final Path dir) throws IOException {
+        return new WalletText(dir.resolve("wallet")).write(
+            "0001;2017-07-19T21:24:51Z;0000000000000064;Ui0wpLu7;98bb82c81735c4ee;In;x",
+            "0002;2017-07-19T21:25:51Z;ffffffffffffff9c;Ui0wpLu7;98bb82c81735c4ee;Out;x",
+            "0003;2017-07-19T21:26:51Z;ffffffffffffff9c;Ui0wpLu7;a8bb82c81735c4ee;Out;x",
+            "0004;2017-07-19T21:27:51Z;ffffffffffffff9c;Ui0wpLu7;98bb82c81735c4ee;Out;x"
+        );
+    }
+}
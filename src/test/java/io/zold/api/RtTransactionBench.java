@@ -0,0 +1,90 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link RtTransaction} validation, table driven
+ * {@link Alphabet} against the regular expressions it replaced.
+ *
+ * <p>Both benchmarks locate the fields of the same line and check the
+ * amount, the prefix, the beneficiary and the signature against the same
+ * rules, one with the regular expressions and the other with alphabets,
+ * so nothing but the checks differs between them. The prefix and the
+ * signature are checked with the very methods {@link RtTransaction} uses.
+ *
+ * <p>See README.md for how to run it.
+ *
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ * @checkstyle LineLengthCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@SuppressWarnings("PMD.ClassNamingConventions")
+public class RtTransactionBench {
+
+    /**
+     * Prefix pattern, as it was in {@link RtTransaction}.
+     */
+    private static final Pattern PREFIX = Pattern.compile(
+        "^([A-Za-z0-9+\\/]{4})*([A-Za-z0-9+\\/]{4}|[A-Za-z0-9+\\/]{3}=|[A-Za-z0-9+\\/]{2}==)$"
+    );
+
+    /**
+     * Hex pattern, as it was in {@link RtTransaction}.
+     */
+    private static final Pattern HEX = Pattern.compile("[A-Fa-f0-9]{16}");
+
+    /**
+     * Signature pattern, as it was in {@link RtTransaction}.
+     */
+    private static final Pattern SIGN = Pattern.compile("[A-Za-z0-9+/]+={0,3}");
+
+    /**
+     * Hex digits.
+     */
+    private static final Alphabet HEX_DIGITS = new Alphabet("A-Fa-f0-9");
+
+    /**
+     * Transaction line with a valid signature.
+     */
+    private static final String LINE = "003b;2018-07-19T21:25:07Z;ffffffffffa72367;xksQuJa9;98bb82c81735c4ee;For food;WKF3Emi4R2OCbPqUuFSykGD4JtAeWc8WThSYUnmLH2w1RiNSa8KNBGUw56mh0jYjmA1AXRyP/Iktqatmczp+isvh2iBN9hpZgavJ1fFjOgoFmNFe8PT8vg4ZC/vOVgMc807icX7O5i36fi0MEvEv242+2z/Gju3vcb42cZMupDoOEF/CDcEy1Ng7iAFdyLoMja74cMo6H7U0z97e2c2Sa1Eidmkdn+mXNbFsx5RizLtLUfhMtghf697Qu9i1N9lY/Qwk8SvgSviPPWs1cjjK/Fsg1ezfHSWbbHmK8/4qkvgkHqAwVwfD7bWm+1McxzNkU4X5pqE/vW5Tm/K9o7wq4N8u355U+xpgTShPEDN9u6QfdE2O4b/Q6rTzVHMX4j66cLrB8am6K9OQ7LYGShRcqR5L078RyjqHm/wDSzfZWbq8NsjmVm7Dr8NVxJ+0jS2U/r+Fo2+uyjDBn5n/UcqxUGgt0qHaGPoi7kezFHcqeVXp8RLetfXa/TBTj39Gc7aBNBFxkfaM7I/TSpI+xjtjr1cfquut/NiVLMSEVipOIEZ+Sjgf9jLjmpNfRDavz3kGi20TkL4szEvgz8bD1dT6Kf7FKPu7YBMYFoyY12RK7NZcdVr+4yNLFbRtaZYwdhrRLYwKaHli4oUN2CjAOHivVw3Ig8x/JySGxsiy3aJD8L3=";
+
+    @Benchmark
+    public boolean patterns() {
+        final Fields fields = new Fields(RtTransactionBench.LINE);
+        return RtTransactionBench.HEX.matcher(fields.text(2)).matches()
+            && RtTransactionBench.PREFIX.matcher(fields.text(3)).matches()
+            && RtTransactionBench.HEX.matcher(fields.text(4)).matches()
+            && RtTransactionBench.SIGN.matcher(fields.text(6)).matches();
+    }
+
+    @Benchmark
+    public boolean alphabets() {
+        final Fields fields = new Fields(RtTransactionBench.LINE);
+        return RtTransactionBench.HEX_DIGITS.covers(fields.text(2), 16)
+            && RtTransaction.padded(fields.text(3))
+            && RtTransactionBench.HEX_DIGITS.covers(fields.text(4), 16)
+            && RtTransaction.signed(fields.text(6));
+    }
+}
@@ -5,6 +5,7 @@
 package io.zold.api;
 
 import java.io.IOException;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.cactoos.time.ZonedDateTimeOf;
@@ -101,6 +102,16 @@ public final class RtTransactionTest {
         );
     }
 
+    @Test
+    public void keepsOffsetOfTime() throws IOException {
+        MatcherAssert.assertThat(
+            new RtTransaction(
+                "003b;2018-07-19T21:25:07+03:00;ffffffffffa72367;xksQuJa9;98bb82c81735c4ee; For food;QCuLuVr4..."
+            ).time(),
+            new IsEqual<>(ZonedDateTime.parse("2018-07-19T21:25:07+03:00"))
+        );
+    }
+
     @Test
     public void invalidTimeFormat() throws IOException {
         Assertions.assertThrows(
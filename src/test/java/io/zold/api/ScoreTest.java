@@ -62,4 +62,19 @@ public final class ScoreTest {
             )
         );
     }
+
+    @Test
+    public void sumsValues() {
+        MatcherAssert.assertThat(
+            new Score.Summed(
+                new IterableOf<>(
+                    new RtScore(new IterableOf<>(new TextOf("a"))),
+                    new RtScore(
+                        new IterableOf<>(new TextOf("b"), new TextOf("c"))
+                    )
+                )
+            ).value(),
+            new IsEqual<>(3)
+        );
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Sharding}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle LineLengthCheck (500 lines)
+ */
+final class ShardingTest {
+
+    @Test
+    void movesWalletsToShards(@TempDir final Path dir) throws IOException {
+        final Path flat = Paths.get("src/test/resources/walletsIn");
+        for (final String name : new String[] {"1.z", "3.z", "6"}) {
+            Files.copy(flat.resolve(name), dir.resolve(name));
+        }
+        new Sharding(dir).migrate();
+        MatcherAssert.assertThat(
+            "Can't find migrated wallet",
+            new WalletsIn(new Layout.Sharded(dir)).find(3L).id(),
+            new IsEqual<>(3L)
+        );
+        MatcherAssert.assertThat(
+            "Wallets are lost in migration",
+            new ListOf<>(new WalletsIn(new Layout.Sharded(dir))).size(),
+            new IsEqual<>(2)
+        );
+    }
+
+    @Test
+    void createsWalletsInShards(@TempDir final Path dir) throws IOException {
+        new WalletsIn(new Layout.Sharded(dir)).create();
+        MatcherAssert.assertThat(
+            "Created wallet is not in a shard",
+            new Layout.Sharded(dir).files().get(0).getParent().getParent()
+                .getParent(),
+            new IsEqual<>(dir)
+        );
+    }
+
+    @Test
+    void movesIndexAndBalanceWithWallet(@TempDir final Path dir)
+        throws IOException {
+        final Path flat = dir.resolve("3.z");
+        Files.copy(Paths.get("src/test/resources/walletsIn/3.z"), flat);
+        new Wallet.File(flat).balance();
+        new Wallet.File(flat).transaction(0x3a);
+        new Sharding(dir).migrate();
+        final Path target = new Layout.Sharded(dir).path(3L);
+        MatcherAssert.assertThat(
+            "Index and balance are left behind",
+            new ListOf<>(
+                Files.exists(Checkpoint.sidecar(target)),
+                Files.exists(Offsets.sidecar(target)),
+                Files.exists(Checkpoint.sidecar(flat)),
+                Files.exists(Offsets.sidecar(flat))
+            ),
+            new IsEqual<>(new ListOf<>(true, true, false, false))
+        );
+    }
+
+    @Test
+    void keepsWalletAlreadyInShard(@TempDir final Path dir)
+        throws IOException {
+        final Path origin = Paths.get("src/test/resources/walletsIn/3.z");
+        final Path target = new Layout.Sharded(dir).path(3L);
+        Files.createDirectories(target.getParent());
+        Files.copy(origin, target);
+        Files.write(target, "\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        Files.copy(origin, dir.resolve("3.z"));
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new Sharding(dir).migrate(),
+            "Wallet in its shard is replaced"
+        );
+        MatcherAssert.assertThat(
+            "Wallet in its shard is changed",
+            Files.size(target),
+            new IsEqual<>(Files.size(origin) + 1L)
+        );
+    }
+}
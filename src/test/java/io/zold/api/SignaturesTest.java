@@ -0,0 +1,150 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import org.cactoos.list.ListOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link Signatures}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ * @checkstyle MagicNumberCheck (500 lines)
+ */
+final class SignaturesTest {
+
+    @Test
+    void keepsSignedAndPositiveTransactions() throws Exception {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        final KeyPair pair = gen.generateKeyPair();
+        final String key = Base64.getEncoder().encodeToString(
+            pair.getPublic().getEncoded()
+        );
+        final long id = 0x12345678abcdefL;
+        final ZonedDateTime time = ZonedDateTime.parse("2017-07-19T21:24:51Z");
+        final Signature rsa = Signature.getInstance("SHA256withRSA");
+        rsa.initSign(pair.getPrivate());
+        rsa.update(
+            String.join(
+                " ", key, "0012345678abcdef", "1", "2017-07-19T21:24:51Z",
+                "-100", "Ui0wpLu7", "98bb82c81735c4ee", "For services"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        final String sign = Base64.getEncoder().encodeToString(rsa.sign());
+        final Transaction signed = new Transaction.Fake(
+            1, time, -100L, "Ui0wpLu7", "98bb82c81735c4ee", "For services",
+            sign
+        );
+        final Transaction forged = new Transaction.Fake(
+            2, time, -100L, "Ui0wpLu7", "98bb82c81735c4ee", "For services",
+            sign
+        );
+        final Transaction incoming = new Transaction.Fake(
+            3, time, 100L, "Ui0wpLu7", "98bb82c81735c4ee", "For services",
+            "unsigned"
+        );
+        MatcherAssert.assertThat(
+            "Only signed and positive transactions are valid",
+            new ListOf<>(
+                new ValidTransactions(
+                    id, key, new ListOf<>(signed, forged, incoming),
+                    new Signatures()
+                )
+            ),
+            new IsEqual<>(new ListOf<>(signed, incoming))
+        );
+    }
+
+    @Test
+    void verifiesTransactionOfOtherWalletAgain() throws Exception {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        final KeyPair pair = gen.generateKeyPair();
+        final String key = Base64.getEncoder().encodeToString(
+            pair.getPublic().getEncoded()
+        );
+        final Signature rsa = Signature.getInstance("SHA256withRSA");
+        rsa.initSign(pair.getPrivate());
+        rsa.update(
+            String.join(
+                " ", key, "0012345678abcdef", "1", "2017-07-19T21:24:51Z",
+                "-100", "Ui0wpLu7", "98bb82c81735c4ee", "For services"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        final Transaction txn = new Transaction.Fake(
+            1, ZonedDateTime.parse("2017-07-19T21:24:51Z"), -100L,
+            "Ui0wpLu7", "98bb82c81735c4ee", "For services",
+            Base64.getEncoder().encodeToString(rsa.sign())
+        );
+        final Signatures signatures = new Signatures(1);
+        signatures.valid(0x12345678abcdefL, key, txn);
+        MatcherAssert.assertThat(
+            "Verdict for another wallet is taken",
+            signatures.valid(0x22345678abcdefL, key, txn),
+            new IsEqual<>(false)
+        );
+    }
+
+    @Test
+    void verifiesSignatureOnceForMerges(@TempDir final Path dir)
+        throws Exception {
+        final KeyPairGenerator gen = KeyPairGenerator.getInstance("RSA");
+        gen.initialize(2048);
+        final KeyPair pair = gen.generateKeyPair();
+        final String key = Base64.getEncoder().encodeToString(
+            pair.getPublic().getEncoded()
+        );
+        final Signature rsa = Signature.getInstance("SHA256withRSA");
+        rsa.initSign(pair.getPrivate());
+        rsa.update(
+            String.join(
+                " ", key, "0012345678abcdef", "1", "2017-07-19T21:24:51Z",
+                "-100", "Ui0wpLu7", "98bb82c81735c4ee", "For services"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        final Wallet other = new Wallet.Fake(
+            0x12345678abcdefL,
+            new Transaction.Fake(
+                1, ZonedDateTime.parse("2017-07-19T21:24:51Z"), -100L,
+                "Ui0wpLu7", "98bb82c81735c4ee", "For services",
+                Base64.getEncoder().encodeToString(rsa.sign())
+            )
+        );
+        final Path file = dir.resolve("wallet");
+        Files.write(
+            file,
+            String.format("zold\n1\n12345678abcdef\n%s\n\n", key)
+                .getBytes(StandardCharsets.UTF_8)
+        );
+        final Signature verifier = Mockito.spy(
+            Signature.getInstance("SHA256withRSA")
+        );
+        final Signatures signatures = new Signatures(
+            16, ThreadLocal.withInitial(() -> verifier)
+        );
+        new Wallet.File(
+            file, new Headers(), new Journals(), signatures
+        ).merge(other);
+        new Wallet.File(
+            file, new Headers(), new Journals(), signatures
+        ).merge(other);
+        Mockito.verify(verifier, Mockito.times(1)).verify(
+            Mockito.any(byte[].class)
+        );
+    }
+}
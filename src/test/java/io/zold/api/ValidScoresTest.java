@@ -0,0 +1,40 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import org.cactoos.iterable.IterableOf;
+import org.cactoos.list.ListOf;
+import org.cactoos.text.TextOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ValidScores}.
+ * @since 1.0
+ * @checkstyle JavadocMethodCheck (500 lines)
+ */
+final class ValidScoresTest {
+
+    @Test
+    void keepsOnlyValidScoresInOrder() {
+        final Score first = ProofTest.mined(1, 2);
+        final Score second = ProofTest.mined(1, 3);
+        MatcherAssert.assertThat(
+            "Can't filter valid scores",
+            new ListOf<>(
+                new ValidScores(
+                    new IterableOf<>(
+                        first,
+                        new RtScore("prefix", new IterableOf<>(new TextOf("x"))),
+                        second
+                    ),
+                    new Proof(1)
+                )
+            ),
+            new IsEqual<>(new ListOf<>(first, second))
+        );
+    }
+}
@@ -8,12 +8,13 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
 import org.cactoos.list.ListOf;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.collection.IsIterableWithSize;
 import org.hamcrest.core.IsEqual;
-import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.jupiter.api.Assertions;
@@ -60,12 +61,7 @@ public final class WalletTest {
         );
     }
 
-    // @todo #21:30min This test had to be marked as ignored after #30 because
-    //  CpTransaction does not create the transaction string correctly yet.
-    //  When CpTransaction is correctly implemented uncomment this method and
-    //  make sure that it's working correctly
     @Test
-    @Ignore
     public void pay() throws IOException {
         final Path path = this.folder.newFile().toPath();
         path.toFile().delete();
@@ -85,6 +81,93 @@ public final class WalletTest {
         );
     }
 
+    @Test
+    public void paysWithNextId() throws IOException {
+        final Path path = this.folder.newFile().toPath();
+        path.toFile().delete();
+        Files.copy(this.wallet(5_124_095_577_148_911L), path);
+        final Wallet wallet = new Wallet.File(path);
+        wallet.pay(1_000L, 1234L);
+        wallet.pay(1_000L, 1234L);
+        final List<Transaction> ledger = new ListOf<>(wallet.ledger());
+        MatcherAssert.assertThat(
+            ledger.get(ledger.size() - 1).id(),
+            new IsEqual<>(ledger.get(ledger.size() - 2).id() + 1)
+        );
+        MatcherAssert.assertThat(
+            ledger.get(ledger.size() - 1).amount(),
+            new IsEqual<>(-1_000L)
+        );
+    }
+
+    @Test
+    public void paysWithUniqueIdsFromManyObjects() throws IOException {
+        final Path path = this.folder.newFile().toPath();
+        path.toFile().delete();
+        Files.copy(this.wallet(5_124_095_577_148_911L), path);
+        final Wallet first = new Wallet.File(
+            path, new Headers(), new Journals()
+        );
+        final Wallet second = new Wallet.File(
+            path, new Headers(), new Journals()
+        );
+        first.pay(1_000L, 1234L);
+        second.pay(1_000L, 1234L);
+        first.pay(1_000L, 1234L);
+        final List<Transaction> ledger = new ListOf<>(first.ledger());
+        MatcherAssert.assertThat(
+            ledger.get(ledger.size() - 1).id(),
+            new IsEqual<>(ledger.get(ledger.size() - 3).id() + 2)
+        );
+        MatcherAssert.assertThat(
+            ledger.get(ledger.size() - 2).id(),
+            new IsEqual<>(ledger.get(ledger.size() - 3).id() + 1)
+        );
+    }
+
+    @Test
+    public void paysWithNextIdOfReplacedWallet() throws IOException {
+        final Path path = new WalletText(this.folder.newFile().toPath()).write(
+            //@checkstyle LineLengthCheck (1 lines)
+            "0001;2017-07-19T21:24:51Z;ffffffffffffff9c;Ui0wpLu7;98bb82c81735c4ee;Out;x"
+        );
+        final Wallet wallet = new Wallet.File(path);
+        wallet.pay(1_000L, 1234L);
+        Files.move(
+            new WalletText(this.folder.newFile().toPath()).write(
+                //@checkstyle LineLengthCheck (4 lines)
+                "0050;2017-07-19T21:24:51Z;ffffffffffffff9c;Ui0wpLu7;98bb82c81735c4ee;Out;x",
+                "0001;2017-07-19T21:24:51Z;0000000000000064;Ui0wpLu7;98bb82c81735c4ee;In;x",
+                "0002;2017-07-19T21:24:51Z;0000000000000064;Ui0wpLu7;98bb82c81735c4ee;In;x",
+                "0003;2017-07-19T21:24:51Z;0000000000000064;Ui0wpLu7;98bb82c81735c4ee;In;x"
+            ),
+            path, StandardCopyOption.REPLACE_EXISTING
+        );
+        wallet.pay(1_000L, 1234L);
+        final List<Transaction> ledger = new ListOf<>(wallet.ledger());
+        MatcherAssert.assertThat(
+            "Id of a payment in the replaced wallet is taken again",
+            ledger.get(ledger.size() - 1).id(),
+            new IsEqual<>(0x51)
+        );
+    }
+
+    @Test
+    public void doesNotPayNegativeAmount() throws IOException {
+        final Path path = this.folder.newFile().toPath();
+        path.toFile().delete();
+        Files.copy(this.wallet(5_124_095_577_148_911L), path);
+        final Wallet wallet = new Wallet.File(path);
+        Assertions.assertThrows(
+            IOException.class,
+            () -> wallet.pay(-100L, 1234L)
+        );
+        MatcherAssert.assertThat(
+            wallet.ledger(),
+            Matchers.iterableWithSize(2)
+        );
+    }
+
     @Test
     public void mergesWallets() throws IOException {
         final long id = 5_124_095_577_148_911L;
@@ -186,6 +269,46 @@ public final class WalletTest {
         );
     }
 
+    @Test
+    public void mergesIntoMemory() throws IOException {
+        final long id = 5_124_095_577_148_911L;
+        final Path path = this.folder.newFile().toPath();
+        path.toFile().delete();
+        Files.copy(this.wallet(id), path);
+        final Wallet merged = new Wallet.File(path).merge(new Wallet.Fake(id));
+        Files.delete(path);
+        MatcherAssert.assertThat(
+            new ListOf<>(merged.ledger()).size(),
+            new IsEqual<>(2)
+        );
+    }
+
+    @Test
+    public void paysFromMergedWallet() throws IOException {
+        final long id = 5_124_095_577_148_911L;
+        final Wallet merged = new Wallet.File(this.wallet(id))
+            .merge(new Wallet.Fake(id));
+        merged.pay(1_000L, 1234L);
+        final List<Transaction> ledger = new ListOf<>(merged.ledger());
+        MatcherAssert.assertThat(
+            ledger.get(ledger.size() - 1).id(),
+            new IsEqual<>(0x3c)
+        );
+        MatcherAssert.assertThat(
+            ledger.get(ledger.size() - 1).amount(),
+            new IsEqual<>(-1_000L)
+        );
+    }
+
+    @Test
+    public void keepsKeyOfMergedWallet() throws IOException {
+        final long id = 5_124_095_577_148_911L;
+        MatcherAssert.assertThat(
+            new Wallet.File(this.wallet(id)).merge(new Wallet.Fake(id)).key(),
+            Matchers.startsWith("MIGeMA0GCSqGSIb3DQEBAQUAA4GMADCBiAKBgGZCr")
+        );
+    }
+
     @Test
     public void walletShouldBeAbleToReturnLedger() throws Exception {
         MatcherAssert.assertThat(
@@ -195,11 +318,19 @@ public final class WalletTest {
     }
 
     @Test
-    public void keyIsNotYetImplemented() throws IOException {
-        final Path path = this.folder.newFile().toPath();
-        Assertions.assertThrows(
-            UnsupportedOperationException.class,
-            () -> new Wallet.File(path).key()
+    public void readsLedgerThroughMapping() throws Exception {
+        MatcherAssert.assertThat(
+            new Wallet.Mmap(this.wallet(5_124_095_577_148_911L)).ledger()
+                .iterator().next().prefix(),
+            new IsEqual<>("Ui0wpLu7")
+        );
+    }
+
+    @Test
+    public void readsKey() throws IOException {
+        MatcherAssert.assertThat(
+            new Wallet.File(this.wallet(5_124_095_577_148_911L)).key(),
+            Matchers.startsWith("MIGeMA0GCSqGSIb3DQEBAQUAA4GMADCBiAKBgGZCr")
         );
     }
 
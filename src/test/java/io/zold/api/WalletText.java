@@ -0,0 +1,66 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2018-2026 Zerocracy
+ * SPDX-License-Identifier: MIT
+ */
+package io.zold.api;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Wallet file of tests, with a header and the ledger lines given.
+ * @since 1.0
+ */
+final class WalletText {
+
+    /**
+     * Header of the wallet.
+     */
+    private static final String HEADER = "zold\n1\n12345678abcdef\nAAAA\n\n";
+
+    /**
+     * The file.
+     */
+    private final Path file;
+
+    /**
+     * Ctor.
+     * @param file The file
+     */
+    WalletText(final Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Write the header and the lines, replacing the file.
+     * @param lines Ledger lines
+     * @return The file
+     * @throws IOException If fails
+     */
+    Path write(final String... lines) throws IOException {
+        Files.write(
+            this.file, WalletText.HEADER.getBytes(StandardCharsets.UTF_8)
+        );
+        return this.append(lines);
+    }
+
+    /**
+     * Append the lines.
+     * @param lines Ledger lines
+     * @return The file
+     * @throws IOException If fails
+     */
+    Path append(final String... lines) throws IOException {
+        for (final String line : lines) {
+            Files.write(
+                this.file,
+                String.format("%s\n", line).getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND
+            );
+        }
+        return this.file;
+    }
+}
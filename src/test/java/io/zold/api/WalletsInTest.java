@@ -5,6 +5,7 @@
 package io.zold.api;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Random;
@@ -12,6 +13,8 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.collection.IsIterableWithSize;
 import org.hamcrest.core.IsEqual;
+import org.hamcrest.core.IsNot;
+import org.hamcrest.core.IsNull;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.jupiter.api.Assertions;
@@ -38,6 +41,34 @@ public final class WalletsInTest {
         );
     }
 
+    @Test
+    public void iteratesMappedWallets() {
+        MatcherAssert.assertThat(
+            new WalletsIn(
+                Paths.get("src/test/resources/walletsIn"), Storage.MAPPED
+            ),
+            // @checkstyle MagicNumber (1 line)
+            new IsIterableWithSize<>(new IsEqual<>(5))
+        );
+    }
+
+    @Test
+    public void paysFromMappedWallets() throws IOException {
+        final Path path = this.folder.newFolder().toPath();
+        Files.copy(
+            Paths.get("src/test/resources/walletsIn/1.z"),
+            path.resolve("1.z")
+        );
+        final Wallets wallets = new WalletsIn(path, Storage.MAPPED);
+        wallets.find(1L).pay(1L, 1234L);
+        wallets.find(1L).pay(1L, 1234L);
+        MatcherAssert.assertThat(
+            "Payment isn't seen by mapped wallet",
+            wallets.find(1L).transaction(0x3d).amount(),
+            new IsEqual<>(-1L)
+        );
+    }
+
     @Test
     public void createsWalletInWallets() throws IOException {
         final Wallets wallets = new WalletsIn(this.folder.newFolder().toPath());
@@ -60,6 +91,67 @@ public final class WalletsInTest {
         );
     }
 
+    @Test
+    public void findsWalletById() throws IOException {
+        MatcherAssert.assertThat(
+            "Can't find wallet by id",
+            new WalletsIn(Paths.get("src/test/resources/walletsIn"))
+                .find(3L).id(),
+            new IsEqual<>(3L)
+        );
+    }
+
+    @Test
+    public void findsWalletsWithManyWalletsIn() throws IOException {
+        final Path path = Paths.get("src/test/resources/walletsIn");
+        long found = 0L;
+        // @checkstyle MagicNumber (1 line)
+        for (int idx = 0; idx < 500; ++idx) {
+            try (WalletsIn wallets = new WalletsIn(path)) {
+                found = wallets.find(3L).id();
+            }
+        }
+        MatcherAssert.assertThat(
+            "Can't find wallet again",
+            found,
+            new IsEqual<>(3L)
+        );
+    }
+
+    @Test
+    public void findsWalletInDirectoryMadeAgain() throws IOException {
+        final Path path = this.folder.newFolder().toPath();
+        final Path origin = Paths.get("src/test/resources/walletsIn/3.z");
+        Files.copy(origin, path.resolve("3.z"));
+        try (WalletsIn wallets = new WalletsIn(path)) {
+            wallets.find(3L);
+            Files.delete(path.resolve("3.z"));
+            Files.delete(path);
+            Files.createDirectory(path);
+            Files.copy(origin, path.resolve("3.z"));
+            MatcherAssert.assertThat(
+                "Can't find wallet in directory made again",
+                wallets.find(3L).id(),
+                new IsEqual<>(3L)
+            );
+        }
+    }
+
+    @Test
+    public void findsCreatedWallet() throws IOException {
+        final Path path = this.folder.newFolder().toPath();
+        final Wallets wallets = new WalletsIn(
+            path, new WalletsInTest.FkRandom(16_725L)
+        );
+        Assertions.assertThrows(IOException.class, () -> wallets.find(16_725L));
+        wallets.create();
+        MatcherAssert.assertThat(
+            "Can't find created wallet",
+            wallets.find(16_725L),
+            new IsNot<>(new IsNull<>())
+        );
+    }
+
     @Test
     public void createsRightWallet() throws IOException {
         final Path path = this.folder.newFolder().toPath();